@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.MarkPresentAllCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+import seedu.address.testutil.SyntheticRoster;
+
+/**
+ * Measures the lookups and bulk attendance updates that commands make through {@code ModelManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    private static final LocalDate LESSON = SyntheticRoster.FIRST_LESSON.plusWeeks(1);
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    private ModelManager model;
+    private int nextProbe;
+
+    /**
+     * Loads the roster into a fresh model.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticRoster.getAddressBook(rosterSize), new UserPrefs());
+    }
+
+    @Benchmark
+    public Student getStudentByName() {
+        nextProbe = (nextProbe + 7919) % rosterSize;
+        return model.getStudentByName(new Name(SyntheticRoster.getName(nextProbe)));
+    }
+
+    @Benchmark
+    public List<Student> getStudentsByTutorialGroup() {
+        nextProbe = (nextProbe + 1) % SyntheticRoster.TUTORIAL_GROUP_COUNT;
+        return model.getStudentsByTutorialGroup(SyntheticRoster.getTutorialGroup(nextProbe));
+    }
+
+    /**
+     * Marks every student present for one lesson, one tutorial group at a time, as a tutor would.
+     */
+    @Benchmark
+    public CommandResult markPresentAll() throws CommandException {
+        CommandResult result = null;
+        for (int i = 0; i < SyntheticRoster.TUTORIAL_GROUP_COUNT; i++) {
+            TutorialGroup tutorialGroup = SyntheticRoster.getTutorialGroup(i);
+            result = new MarkPresentAllCommand(tutorialGroup, LESSON).execute(model);
+        }
+        return result;
+    }
+}
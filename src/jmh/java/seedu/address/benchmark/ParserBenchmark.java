@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRESENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the throughput of turning user input into commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final Prefix[] ALL_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_ASSIGNMENT, PREFIX_DEADLINE,
+        PREFIX_STATUS, PREFIX_GRADE, PREFIX_TUTORIAL_GROUP, PREFIX_STUDENT_NUMBER, PREFIX_DATE, PREFIX_PRESENT};
+
+    @Param({
+        "adds n/John Doe p/98765432 tg/G01 sn/A0123456X",
+        "adda n/John Doe sn/A0123456X a/Assignment 1 d/2024-01-15",
+        "edita n/John Doe sn/A0123456X a/Assignment 1 s/Y g/85",
+        "markat n/John Doe dt/2024-01-08 pr/p sn/A0123456X",
+        "markpresentall tg/G01 dt/2024-01-08",
+        "list"
+    })
+    public String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String arguments;
+
+    /**
+     * Splits off the arguments that the command parsers tokenize.
+     */
+    @Setup
+    public void setUp() {
+        int argumentsStart = userInput.indexOf(' ');
+        arguments = argumentsStart < 0 ? "" : userInput.substring(argumentsStart);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, ALL_PREFIXES);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonStudentAddressBookStorage;
+import seedu.address.testutil.SyntheticRoster;
+
+/**
+ * Measures how long it takes to write out and read back a whole roster in each storage format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    @Param({"JSON", "BINARY"})
+    public AddressBookFormat format;
+
+    private Path folder;
+    private Path saveFile;
+    private Path loadFile;
+    private AddressBook addressBook;
+    private AddressBookStorage storage;
+
+    /**
+     * Generates the roster and writes the file that the load benchmark reads.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storage-benchmark");
+        saveFile = folder.resolve("save");
+        loadFile = folder.resolve("load");
+        addressBook = SyntheticRoster.getAddressBook(rosterSize);
+
+        // Saves to a path other than the storage's own are always written in full, never journalled
+        Path ownFile = folder.resolve("unused");
+        storage = format == AddressBookFormat.BINARY
+                ? new BinaryAddressBookStorage(ownFile)
+                : new JsonStudentAddressBookStorage(ownFile);
+        storage.saveAddressBook(addressBook, loadFile);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook, saveFile);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> load() throws DataLoadingException {
+        return storage.readAddressBook(loadFile);
+    }
+}
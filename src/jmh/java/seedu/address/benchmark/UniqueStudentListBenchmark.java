@@ -0,0 +1,65 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.UniqueStudentList;
+import seedu.address.testutil.SyntheticRoster;
+
+/**
+ * Measures adding students to, and looking students up in, a {@code UniqueStudentList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueStudentListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    private List<Student> students;
+    private UniqueStudentList studentList;
+    private int nextProbe;
+
+    /**
+     * Generates the roster and a list already holding all of it.
+     */
+    @Setup
+    public void setUp() {
+        students = SyntheticRoster.getStudents(rosterSize);
+        studentList = new UniqueStudentList();
+        studentList.setStudents(students);
+    }
+
+    @Benchmark
+    public UniqueStudentList addAll() {
+        UniqueStudentList list = new UniqueStudentList();
+        for (Student student : students) {
+            list.add(student);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        // Spreads the lookups over the whole roster, so that no one position in the list is favoured
+        nextProbe = (nextProbe + 7919) % rosterSize;
+        return studentList.contains(students.get(nextProbe));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.assignment.Grade;
+import seedu.address.model.assignment.Status;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * Measures the cost of checking the fields of one student, with one assignment and one attendance record, as loading
+ * a data file does. The {@code stringMatches} benchmark checks the same fields by recompiling each regex on every
+ * call, as the value classes used to, for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final String name = "Student 1234";
+    private final String studentNumber = "A0001234X";
+    private final String tutorialGroup = "G14";
+    private final String grade = "87.5";
+    private final String status = "Y";
+    private final String attendance = "p";
+    private final String date = "2024-01-08";
+
+    @Benchmark
+    public boolean validators() {
+        return Name.isValidName(name)
+                && StudentNumber.isValidStudentNumber(studentNumber)
+                && TutorialGroup.isValidTutorialGroup(tutorialGroup)
+                && Grade.isValidGrade(grade)
+                && Status.isValidStatus(status)
+                && Attendance.isValidAttendance(attendance)
+                && DateUtil.parseIsoDate(date).isPresent();
+    }
+
+    @Benchmark
+    public boolean stringMatches() {
+        return name.matches(Name.VALIDATION_REGEX)
+                && studentNumber.matches(StudentNumber.VALIDATION_REGEX)
+                && tutorialGroup.matches(TutorialGroup.VALIDATION_REGEX)
+                && grade.matches(Grade.VALIDATION_REGEX)
+                && status.matches(Status.VALIDATION_REGEX)
+                && attendance.matches(Attendance.VALIDATION_REGEX)
+                && LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE) != null;
+    }
+}
@@ -13,10 +13,14 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 100;
+    public static final long DEFAULT_UNDO_HISTORY_BYTES = 8L * 1024 * 1024;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private long undoHistoryBytes = DEFAULT_UNDO_HISTORY_BYTES;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,28 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, that the commands which can be undone may hold on to.
+     */
+    public long getUndoHistoryBytes() {
+        return undoHistoryBytes;
+    }
+
+    public void setUndoHistoryBytes(long undoHistoryBytes) {
+        this.undoHistoryBytes = undoHistoryBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +73,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && undoHistoryDepth == otherConfig.undoHistoryDepth
+                && undoHistoryBytes == otherConfig.undoHistoryBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, undoHistoryDepth, undoHistoryBytes);
     }
 
     @Override
@@ -60,6 +88,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("undoHistoryDepth", undoHistoryDepth)
+                .add("undoHistoryBytes", undoHistoryBytes)
                 .toString();
     }
 
@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Helper functions for handling dates.
+ */
+public class DateUtil {
+
+    private static final int ISO_DATE_LENGTH = "yyyy-MM-dd".length();
+
+    /**
+     * Returns the date that {@code text} gives in the ISO format 'YYYY-MM-DD', or an empty {@code Optional} if it is
+     * not a valid date in that format. Accepts the same dates as {@link DateTimeFormatter#ISO_LOCAL_DATE}.
+     */
+    public static Optional<LocalDate> parseIsoDate(String text) {
+        requireNonNull(text);
+        if (!isPlainIsoDate(text)) {
+            // Years outside 0000 to 9999 need the full formatter
+            try {
+                return Optional.of(LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE));
+            } catch (DateTimeParseException e) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            return Optional.of(LocalDate.of(toNumber(text, 0, 4), toNumber(text, 5, 7), toNumber(text, 8, 10)));
+        } catch (DateTimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if {@code text} is four digits, two digits and two digits, separated by dashes.
+     */
+    private static boolean isPlainIsoDate(String text) {
+        if (text.length() != ISO_DATE_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return false;
+        }
+        for (int i = 0; i < ISO_DATE_LENGTH; i++) {
+            if (i != 4 && i != 7 && !isAsciiDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int toNumber(String digits, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            number = number * 10 + (digits.charAt(i) - '0');
+        }
+        return number;
+    }
+}
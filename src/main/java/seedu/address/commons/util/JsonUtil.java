@@ -1,17 +1,26 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +31,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,12 +50,96 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (Writer writer = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(writer, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (Reader reader = Files.newBufferedReader(jsonFile, StandardCharsets.UTF_8)) {
+            return objectMapper.readValue(reader, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Handles one element of a JSON array as it is read.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Reads the array held by the top-level field {@code fieldName} of the given JSON file, one element at a time,
+     * passing each element to {@code elementHandler} before reading the next. Other top-level fields are skipped,
+     * but the array field itself must be present.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @return false if the file is not found.
+     * @throws DataLoadingException if loading of the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayField(Path filePath, String fieldName, Class<T> elementClass,
+            ElementHandler<? super T> elementHandler) throws DataLoadingException, IllegalValueException {
+        return readJsonArrayField(filePath, fieldName, elementClass, elementHandler, new HashMap<>());
+    }
+
+    /**
+     * Similar to {@link #readJsonArrayField(Path, String, Class, ElementHandler)}, but also puts the text of every
+     * other top-level field that holds a single value, such as a string or a number, into {@code otherFields}.
+     */
+    public static <T> boolean readJsonArrayField(Path filePath, String fieldName, Class<T> elementClass,
+            ElementHandler<? super T> elementHandler, Map<String, String> otherFields)
+            throws DataLoadingException, IllegalValueException {
+        requireAllNonNull(filePath, fieldName, elementClass, elementHandler, otherFields);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = objectMapper.getFactory()
+                .createParser(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            JsonToken token;
+            boolean isArrayFieldFound = false;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String currentName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(currentName)) {
+                    if (valueToken.isScalarValue() && valueToken != JsonToken.VALUE_NULL) {
+                        otherFields.put(currentName, parser.getText());
+                    }
+                    parser.skipChildren();
+                    continue;
+                }
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                isArrayFieldFound = true;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of file");
+                    }
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+            expectToken(parser, token, JsonToken.END_OBJECT);
+            if (!isArrayFieldFound) {
+                throw new JsonParseException(parser, "Missing field " + fieldName);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
     }
 
     /**
@@ -111,6 +205,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,9 +1,11 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,6 +25,28 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given an error message whenever saving the data after a command fails.
+     * Saves happen in the background, so the handler is not called on the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Writes the command metrics of this session to the metrics file.
+     * This also happens every few minutes while commands are run.
+     */
+    void saveMetrics();
+
+    /**
+     * Returns the commands run successfully, including those from earlier sessions.
+     */
+    CommandHistory getCommandHistory();
+
+    /**
+     * Waits for the commands run so far to be saved to the command history file.
+     */
+    void flushCommandHistory();
+
     /**
      * Returns the AddressBook.
      *
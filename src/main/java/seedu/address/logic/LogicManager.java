@@ -3,21 +3,28 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandStack;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.student.Student;
+import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.Storage;
 
 /**
@@ -29,19 +36,56 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Name of the file, next to the data file, that the command metrics are written to. */
+    public static final String METRICS_FILE_NAME = "metrics.txt";
+
+    /** Name of the file, next to the data file, that the command history is kept in. */
+    public static final String HISTORY_FILE_NAME = "history.txt";
+
+    private static final long METRICS_SAVE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final CommandStack commandStack;
     private final AddressBookParser addressBookParser;
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final CommandHistoryStorage commandHistoryStorage;
+    private final CommandMetrics metrics;
+    private long lastMetricsSave = System.nanoTime();
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, and an undo history with
+     * the default bounds.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandStack());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which keeps its undo
+     * history in {@code commandStack}.
+     */
+    public LogicManager(Model model, Storage storage, CommandStack commandStack) {
+        this(model, storage, commandStack, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which keeps its undo
+     * history in {@code commandStack} and records how long its commands take in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandStack commandStack, CommandMetrics metrics) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandStack = commandStack;
+        this.metrics = metrics;
+        addressBookParser = new AddressBookParser(commandStack, metrics);
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(getSaveFailureMessage(ioe)));
+        commandHistoryStorage = new CommandHistoryStorage(
+                storage.getAddressBookFilePath().resolveSibling(HISTORY_FILE_NAME), commandHistory.getCapacity());
+        commandHistoryStorage.readCommands().forEach(commandHistory::add);
     }
 
     @Override
@@ -49,20 +93,84 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
+        long parseStart = System.nanoTime();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-        CommandStack.pushCommand(command);
-        CommandHistory.addCommand(commandText);
+        String commandWord = AddressBookParser.getCommandWord(commandText);
+        long executeStart = System.nanoTime();
+        metrics.record(commandWord, Phase.PARSE, executeStart - parseStart);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            metrics.record(commandWord, Phase.EXECUTE, System.nanoTime() - executeStart);
+        }
+        commandStack.push(command);
+        commandHistory.add(commandText);
+        commandHistoryStorage.appendInBackground(commandText);
+
+        if (command.isMutating()) {
+            // Only the part of the save that runs before the command returns is timed
+            long persistStart = System.nanoTime();
+            storage.saveAddressBookInBackground(model.getAddressBook());
+            metrics.record(commandWord, Phase.PERSIST, System.nanoTime() - persistStart);
+        }
+
+        if (System.nanoTime() - lastMetricsSave >= METRICS_SAVE_INTERVAL_NANOS) {
+            // The report reads the model, so it is built here; only the write is left to the saver thread
+            lastMetricsSave = System.nanoTime();
+            storage.writeFileInBackground(getMetricsFilePath(), getMetricsReport());
+        }
+        return commandResult;
+    }
 
+    @Override
+    public void saveMetrics() {
+        lastMetricsSave = System.nanoTime();
+        Path metricsFilePath = getMetricsFilePath();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            FileUtil.createIfMissing(metricsFilePath);
+            FileUtil.writeToFile(metricsFilePath, getMetricsReport());
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            logger.warning("Failed to save command metrics to " + metricsFilePath + ": " + StringUtil.getDetails(ioe));
         }
+    }
 
-        return commandResult;
+    private String getMetricsReport() {
+        return metrics.getReport(model.getAddressBook()) + System.lineSeparator();
+    }
+
+    /**
+     * Returns the path of the file that the command metrics are written to.
+     */
+    public Path getMetricsFilePath() {
+        return storage.getAddressBookFilePath().resolveSibling(METRICS_FILE_NAME);
+    }
+
+    @Override
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
+    }
+
+    @Override
+    public void flushCommandHistory() {
+        commandHistoryStorage.flush();
+    }
+
+    /**
+     * Returns the path of the file that the command history is kept in.
+     */
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getFilePath();
+    }
+
+    private static String getSaveFailureMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
     }
 
     @Override
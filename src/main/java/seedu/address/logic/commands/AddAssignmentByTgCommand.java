@@ -54,23 +54,38 @@ public class AddAssignmentByTgCommand extends Command {
             throw new CommandException(MESSAGE_NO_TUTORIAL_GROUP_FOUND);
         }
 
-        for (Student student : studentList) {
-            if (student.addAssignment(assignment)) {
-                students.add(student);
+        students.clear();
+        model.batch(() -> {
+            for (Student student : studentList) {
+                if (student.addAssignment(assignment)) {
+                    students.add(student);
+                }
             }
-        }
+        });
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, assignment.getAssignmentName(), tutorialGroup));
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
-        for (Student student : students) {
-            student.deleteAssignment(assignment.getAssignmentName());
-        }
+        model.batch(() -> {
+            for (Student student : students) {
+                student.deleteAssignment(assignment.getAssignmentName());
+            }
+        });
         return true;
     }
 
+    @Override
+    public long estimateUndoBytes() {
+        return BASE_UNDO_BYTES + ENTRY_UNDO_BYTES * students.size();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
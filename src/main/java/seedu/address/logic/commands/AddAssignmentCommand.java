@@ -136,6 +136,11 @@ public class AddAssignmentCommand extends Command {
                 && otherCommand.studentNumber.equals(this.studentNumber);
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         student.deleteAssignment(assignment.getAssignmentName());
@@ -71,6 +71,11 @@ public class AddStudentCommand extends Command {
                 && toAdd.equals(otherCommand.toAdd));
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         model.deleteStudent(toAdd);
@@ -26,4 +26,9 @@ public class CloseWindowCommand extends Command {
     public boolean equals(Object other) {
         return other instanceof CloseWindowCommand;
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -8,6 +8,11 @@ import seedu.address.model.Model;
  */
 public abstract class Command implements Undoable {
 
+    /** Estimated size of a command that holds on to nothing but its own arguments. */
+    protected static final long BASE_UNDO_BYTES = 64;
+    /** Estimated size of each entry in a collection that a command keeps so that it can be undone. */
+    protected static final long ENTRY_UNDO_BYTES = 48;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,9 +22,46 @@ public abstract class Command implements Undoable {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book, so that it needs saving afterwards.
+     * Commands that only read the address book or change what is displayed should override this to return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Returns true if this command can be undone once executed, so that it needs to be kept in the undo history.
+     * Commands that override {@link #undo(Model)} should override this to return true.
+     */
+    public boolean isUndoable() {
+        return false;
+    }
+
     @Override
     public boolean undo(Model model) {
         // By default, commands are not undoable
         return false;
     }
+
+    /**
+     * Redoes this command after it has been undone. By default, the command is executed again, which gives the same
+     * result as long as nothing else has changed since it was undone.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult redo(Model model) throws CommandException {
+        return execute(model);
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, that this command holds on to so that it can be undone.
+     * Commands that keep data which is no longer in the model, or data that grows with the model, should override
+     * this.
+     */
+    public long estimateUndoBytes() {
+        return BASE_UNDO_BYTES;
+    }
 }
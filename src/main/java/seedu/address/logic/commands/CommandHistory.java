@@ -1,75 +1,206 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
- * Represents the command history of the current user session.
+ * Represents the most recent commands entered by the user, oldest first, up to a fixed capacity.
+ * Once full, each new command replaces the oldest one.
+ * <p>
+ * The history can be stepped through one command at a time, skipping commands that do not start with the text
+ * typed before stepping began, and searched for commands that start with or contain some text. Distinct commands are
+ * indexed in sorted order, so prefix searches do not scan the history.
  */
-public class CommandHistory extends ArrayList<String> {
-    private static final CommandHistory COMMAND_HISTORY = new CommandHistory();
-    private static int pointer = -1;
+public class CommandHistory {
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final String[] commands;
+    private int start; // index in commands of the oldest command
+    private int size;
+    private long commandsAdded;
+
+    // Each distinct command in the history, with how often it occurs and when it was last added
+    private final TreeMap<String, IndexEntry> index = new TreeMap<>();
+
+    // Position of the command being shown, from 0 for the oldest to size when no command is shown
+    private int cursor;
+    private String typedText = "";
 
     /**
-     * Constructs a command history.
+     * Constructs an empty command history with the default capacity.
      */
-    private CommandHistory() {
+    public CommandHistory() {
+        this(DEFAULT_CAPACITY);
     }
 
     /**
-     * Factory method used to get the singleton instance of the command history. (used only for testing)
+     * Constructs an empty command history that keeps at most {@code capacity} commands.
      */
-    static CommandHistory getInstance() {
-        return COMMAND_HISTORY;
+    public CommandHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        commands = new String[capacity];
     }
 
     /**
-     * Gets the pointer of the command history. (used only for testing)
+     * Adds a command to the end of the command history, and stops stepping through it.
+     * @param command The command to be added.
      */
-    static int getPointer() {
-        return pointer;
+    public void add(String command) {
+        requireNonNull(command);
+        if (size == commands.length) {
+            unindex(commands[start]);
+            commands[start] = command;
+            start = (start + 1) % commands.length;
+        } else {
+            commands[(start + size) % commands.length] = command;
+            size++;
+        }
+        IndexEntry entry = index.computeIfAbsent(command, unused -> new IndexEntry());
+        entry.count++;
+        entry.lastAdded = commandsAdded++;
+        resetCursor();
     }
 
     /**
-     * Adds a command to the command history.
-     * @param command The command to be added.
+     * Returns the command at {@code position}, counting from 0 for the oldest command.
      */
-    public static void addCommand(String command) {
-        COMMAND_HISTORY.add(command);
-        pointer = COMMAND_HISTORY.size();
+    public String get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return commands[(start + position) % commands.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return commands.length;
     }
 
     /**
-     * Gets the previous command in the command history. An empty string is returned if there are no command inputs.
-     * If the pointer is at the first command, the first command is returned regardless of calls to this method.
-     * @return The previous command in the command history.
+     * Returns the commands in the history, oldest first.
      */
-    public static String getPreviousPointerCommand() {
-        if (COMMAND_HISTORY.isEmpty()) {
-            return "";
+    public List<String> getCommands() {
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(get(i));
         }
+        return result;
+    }
 
-        if (pointer == 0) {
-            return COMMAND_HISTORY.get(pointer);
+    /**
+     * Steps back to the previous command that starts with the text typed before stepping began, and returns it.
+     * If this starts stepping, {@code currentText} is taken as the typed text.
+     * If there is no such command, the command currently shown is returned, or {@code currentText} if there is none.
+     */
+    public String getPrevious(String currentText) {
+        requireNonNull(currentText);
+        if (cursor == size) {
+            typedText = currentText;
+            if (!hasCommandStartingWith(typedText)) {
+                return currentText;
+            }
         }
+        for (int i = cursor - 1; i >= 0; i--) {
+            if (get(i).startsWith(typedText)) {
+                cursor = i;
+                return get(i);
+            }
+        }
+        return cursor == size ? currentText : get(cursor);
+    }
 
-        return COMMAND_HISTORY.get(--pointer);
+    /**
+     * Steps forward to the next command that starts with the text typed before stepping began, and returns it.
+     * Stepping past the most recent such command stops stepping, and returns the typed text.
+     * If not stepping through the history, {@code currentText} is returned.
+     */
+    public String getNext(String currentText) {
+        requireNonNull(currentText);
+        if (cursor == size) {
+            return currentText;
+        }
+        for (int i = cursor + 1; i < size; i++) {
+            if (get(i).startsWith(typedText)) {
+                cursor = i;
+                return get(i);
+            }
+        }
+        String text = typedText;
+        resetCursor();
+        return text;
     }
 
     /**
-     * Gets the next command in the command history. An empty string is returned if there are no more command inputs
-     * to be retrieved.
-     * @return The next command in the command history.
+     * Returns up to {@code limit} distinct commands that start with {@code query}, followed by those that only
+     * contain it, each most recently added first.
      */
-    public static String getNextPointerCommand() {
-        if (COMMAND_HISTORY.isEmpty() || pointer == COMMAND_HISTORY.size()) {
-            return "";
+    public List<String> search(String query, int limit) {
+        requireNonNull(query);
+        List<Map.Entry<String, IndexEntry>> prefixMatches = new ArrayList<>();
+        for (Map.Entry<String, IndexEntry> entry : index.tailMap(query, true).entrySet()) {
+            if (!entry.getKey().startsWith(query)) {
+                break;
+            }
+            prefixMatches.add(entry);
+        }
+        List<String> result = mostRecentFirst(prefixMatches, limit);
+        if (result.size() == limit) {
+            return result;
+        }
+
+        List<Map.Entry<String, IndexEntry>> substringMatches = new ArrayList<>();
+        for (Map.Entry<String, IndexEntry> entry : index.entrySet()) {
+            if (!entry.getKey().startsWith(query) && entry.getKey().contains(query)) {
+                substringMatches.add(entry);
+            }
+        }
+        result.addAll(mostRecentFirst(substringMatches, limit - result.size()));
+        return result;
+    }
+
+    private boolean hasCommandStartingWith(String prefix) {
+        String candidate = index.ceilingKey(prefix);
+        return candidate != null && candidate.startsWith(prefix);
+    }
+
+    private void unindex(String command) {
+        IndexEntry entry = index.get(command);
+        if (--entry.count == 0) {
+            index.remove(command);
         }
+    }
 
-        if (pointer == COMMAND_HISTORY.size() - 1) {
-            ++pointer;
-            return "";
+    private void resetCursor() {
+        cursor = size;
+        typedText = "";
+    }
+
+    private static List<String> mostRecentFirst(List<Map.Entry<String, IndexEntry>> entries, int limit) {
+        entries.sort(Comparator.comparingLong((Map.Entry<String, IndexEntry> entry) -> entry.getValue().lastAdded)
+                .reversed());
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < entries.size() && i < limit; i++) {
+            result.add(entries.get(i).getKey());
         }
+        return result;
+    }
 
-        return COMMAND_HISTORY.get(++pointer);
+    /**
+     * How often a distinct command occurs in the history, and when it was last added.
+     */
+    private static class IndexEntry {
+        private int count;
+        private long lastAdded;
     }
 }
@@ -1,45 +1,161 @@
 package seedu.address.logic.commands;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import seedu.address.commons.core.Config;
+import seedu.address.model.student.Student;
 
 /**
- * Represents the command stack that stores the list of all commands
+ * Represents the undo and redo history of the commands executed by the user.
+ * Only commands that can be undone are kept. The history is bounded both in the number of commands and in the
+ * estimated memory they hold on to, and the oldest commands are forgotten first when either bound is exceeded.
+ * The most recent command is always kept, however large it is.
  */
-public class CommandStack extends Stack<Command> {
-    private static final CommandStack COMMAND_STACK = new CommandStack();
+public class CommandStack {
+
+    // Estimated size of a student with no assignments or attendance records, and of each of those
+    private static final long STUDENT_BYTES = 512;
+    private static final long ASSIGNMENT_BYTES = 160;
+    private static final long ATTENDANCE_RECORD_BYTES = 80;
+
+    // The most recent command is first in both
+    private final Deque<Entry> undoCommands = new ArrayDeque<>();
+    private final Deque<Entry> redoCommands = new ArrayDeque<>();
+    private final int maxDepth;
+    private final long maxBytes;
+    private long bytes;
 
     /**
-     * Constructs a command stack
+     * Constructs a command stack with the default bounds.
      */
-    private CommandStack() {
+    public CommandStack() {
+        this(Config.DEFAULT_UNDO_HISTORY_DEPTH, Config.DEFAULT_UNDO_HISTORY_BYTES);
     }
 
     /**
-     * Factory method used to get the singleton instance of command stack (used only for testing)
+     * Constructs a command stack that keeps at most {@code maxDepth} commands to undo, and forgets the oldest ones
+     * while the commands it keeps are estimated to hold on to more than {@code maxBytes}.
+     * A depth below one is taken as one, since the most recent command is always kept.
      */
-    static CommandStack getInstance() {
-        return COMMAND_STACK;
+    public CommandStack(int maxDepth, long maxBytes) {
+        this.maxDepth = Math.max(1, maxDepth);
+        this.maxBytes = maxBytes;
     }
 
     /**
-     * Pushes a command to the command stack
-     * @param command The most recent valid command executed by the user
+     * Records a command that has just been executed successfully. If it changes the data or can be undone, the
+     * commands that were undone before it are forgotten, as they may no longer apply; read-only commands keep them.
+     * Undo and redo commands are not recorded, and neither are commands that cannot be undone.
      */
-    public static void pushCommand(Command command) {
-        if (command instanceof UndoCommand) {
+    public void push(Command command) {
+        if (command instanceof UndoCommand || command instanceof RedoCommand) {
             return;
         }
-        COMMAND_STACK.push(command);
+        if (!command.isMutating() && !command.isUndoable()) {
+            return;
+        }
+        while (!redoCommands.isEmpty()) {
+            bytes -= redoCommands.removeFirst().bytes;
+        }
+        if (command.isUndoable()) {
+            addUndo(command);
+        }
     }
 
     /**
-     * Pops a command from the command stack
-     * @return The most recent valid command executed by the user
+     * Removes and returns the most recent command to undo, or null if there is none.
      */
-    public static Command popCommand() {
-        if (COMMAND_STACK.isEmpty()) {
+    public Command popUndo() {
+        Entry entry = undoCommands.pollFirst();
+        if (entry == null) {
             return null;
         }
-        return COMMAND_STACK.pop();
+        bytes -= entry.bytes;
+        return entry.command;
+    }
+
+    /**
+     * Records a command that has just been undone, so that it can be redone.
+     */
+    public void pushRedo(Command command) {
+        Entry entry = new Entry(command);
+        redoCommands.addFirst(entry);
+        bytes += entry.bytes;
+    }
+
+    /**
+     * Removes and returns the most recently undone command, or null if there is none.
+     */
+    public Command popRedo() {
+        Entry entry = redoCommands.pollFirst();
+        if (entry == null) {
+            return null;
+        }
+        bytes -= entry.bytes;
+        return entry.command;
+    }
+
+    /**
+     * Records a command that has just been redone, so that it can be undone again.
+     * Unlike {@link #push(Command)}, this keeps the commands that are left to redo.
+     */
+    public void pushUndo(Command command) {
+        addUndo(command);
+    }
+
+    public int getUndoCount() {
+        return undoCommands.size();
+    }
+
+    public int getRedoCount() {
+        return redoCommands.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes held on to by the commands in this stack.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Forgets all commands.
+     */
+    public void clear() {
+        undoCommands.clear();
+        redoCommands.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Returns a rough estimate of the memory held on to by {@code student} and its assignments and attendance records.
+     */
+    public static long estimateBytes(Student student) {
+        return STUDENT_BYTES
+                + ASSIGNMENT_BYTES * student.getAssignments().size()
+                + ATTENDANCE_RECORD_BYTES * student.getAttendanceRecord().size();
+    }
+
+    private void addUndo(Command command) {
+        Entry entry = new Entry(command);
+        undoCommands.addFirst(entry);
+        bytes += entry.bytes;
+        while (undoCommands.size() > 1 && (undoCommands.size() > maxDepth || bytes > maxBytes)) {
+            bytes -= undoCommands.removeLast().bytes;
+        }
+    }
+
+    /**
+     * A command along with the memory it was estimated to hold on to when it was recorded.
+     */
+    private static class Entry {
+        private final Command command;
+        private final long bytes;
+
+        Entry(Command command) {
+            this.command = command;
+            this.bytes = command.estimateUndoBytes();
+        }
     }
 }
@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
 import seedu.address.model.Model;
 import seedu.address.model.student.Student;
 
@@ -18,12 +20,12 @@ public class DeleteAllStudentsCommand extends Command {
 
     public static final String MESSAGE_DELETE_STUDENT_SUCCESS = "Deleted all students.";
 
-    private ObservableList<Student> studentsToDelete;
+    private List<Student> studentsToDelete = List.of();
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        studentsToDelete = model.deleteAllStudents();
+        studentsToDelete = List.copyOf(model.deleteAllStudents());
         return new CommandResult(MESSAGE_DELETE_STUDENT_SUCCESS);
     }
 
@@ -32,9 +34,19 @@ public class DeleteAllStudentsCommand extends Command {
         return other instanceof DeleteAllStudentsCommand;
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
-        model.replaceStudentList(studentsToDelete);
+        model.replaceStudentList(FXCollections.observableArrayList(studentsToDelete));
         return true;
     }
+
+    @Override
+    public long estimateUndoBytes() {
+        return BASE_UNDO_BYTES + studentsToDelete.stream().mapToLong(CommandStack::estimateBytes).sum();
+    }
 }
@@ -123,6 +123,11 @@ public class DeleteAssignmentCommand extends Command {
                 && this.studentNumber.equals(otherCommand.studentNumber);
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         // The command will only have been executed if assignment was assigned a value
@@ -62,20 +62,23 @@ public class DeleteAttendanceAllCommand extends Command {
             throw new CommandException(MESSAGE_EMPTY_TG);
         }
 
-        for (Student student : studentsFromSpecifiedTutorialGroup) {
-            previousAttendances.put(student, student.getAttendanceRecord().stream()
-                    .filter(record -> record.getDate().equals(date))
-                    .findFirst()
-                    .map(record -> record.getAttendance())
-                    .orElse(null));
-            student.deleteAttendance(date);
-        }
+        model.batch(() -> {
+            for (Student student : studentsFromSpecifiedTutorialGroup) {
+                previousAttendances.put(student, student.getAttendance(date).orElse(null));
+                student.deleteAttendance(date);
+            }
+        });
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, tutorialGroup,
                 DateTimeFormatter.ofPattern("yyyy-MM-dd").format(date)));
 
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         requireNonNull(model);
@@ -84,15 +87,22 @@ public class DeleteAttendanceAllCommand extends Command {
             return false;
         }
 
-        for (Student student : studentsFromSpecifiedTutorialGroup) {
-            Attendance previousAttendance = previousAttendances.get(student);
-            if (previousAttendance != null) {
-                student.markAttendance(date, previousAttendance.value);
+        model.batch(() -> {
+            for (Student student : studentsFromSpecifiedTutorialGroup) {
+                Attendance previousAttendance = previousAttendances.get(student);
+                if (previousAttendance != null) {
+                    student.markAttendance(date, previousAttendance.value);
+                }
             }
-        }
+        });
         return true;
     }
 
+    @Override
+    public long estimateUndoBytes() {
+        return BASE_UNDO_BYTES + ENTRY_UNDO_BYTES * previousAttendances.size();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -90,11 +90,7 @@ public class DeleteAttendanceCommand extends Command {
             }
             student = Optional.of(studentList.get(0));
         }
-        previousAttendance = student.get().getAttendanceRecord().stream()
-                .filter(record -> record.getDate().equals(date))
-                .findFirst()
-                .map(record -> record.getAttendance())
-                .orElse(null);
+        previousAttendance = student.get().getAttendance(date).orElse(null);
 
         if (previousAttendance == null) {
             throw new CommandException("No attendance record found for " + name + " on " + date);
@@ -106,6 +102,11 @@ public class DeleteAttendanceCommand extends Command {
 
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         if (student.isEmpty()) {
@@ -124,10 +124,20 @@ public class DeleteStudentCommand extends Command {
                 || (studentNumber != null && studentNumber.equals(otherCommand.studentNumber)));
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         assert studentToDelete != null;
         model.addStudent(index, studentToDelete);
         return true;
     }
+
+    @Override
+    public long estimateUndoBytes() {
+        return BASE_UNDO_BYTES + (studentToDelete == null ? 0 : CommandStack.estimateBytes(studentToDelete));
+    }
 }
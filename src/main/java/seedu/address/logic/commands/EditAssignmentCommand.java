@@ -129,6 +129,11 @@ public class EditAssignmentCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, assignmentName, student.getName()));
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         student.editAssignment(assignmentName, new AssignmentQuery(oldAssignment));
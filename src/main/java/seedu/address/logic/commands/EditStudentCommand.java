@@ -130,6 +130,11 @@ public class EditStudentCommand extends Command {
                 .toString();
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         if (studentToEdit == null) {
@@ -140,6 +145,11 @@ public class EditStudentCommand extends Command {
         return true;
     }
 
+    @Override
+    public long estimateUndoBytes() {
+        return BASE_UNDO_BYTES + (studentToEdit == null ? 0 : CommandStack.estimateBytes(studentToEdit));
+    }
+
     /**
      * Stores the details to edit the person with. Each non-empty field value will replace the
      * corresponding field value of the person.
@@ -33,6 +33,7 @@ public class GetAttendanceByTgCommand extends Command {
     private static Stack<AttendanceWindow> openWindows = new Stack<>();
 
     private final TutorialGroup tutorialGroup;
+    private final AttendanceWindow window;
 
 
     /**
@@ -42,9 +43,9 @@ public class GetAttendanceByTgCommand extends Command {
      */
     public GetAttendanceByTgCommand(TutorialGroup tutorialGroup) {
         this.tutorialGroup = tutorialGroup;
-        AttendanceWindow newWindow = new AttendanceWindow(tutorialGroup);
-        openWindows.push(newWindow);
-        currentWindow = newWindow;
+        window = new AttendanceWindow(tutorialGroup);
+        openWindows.push(window);
+        currentWindow = window;
     }
 
     @Override
@@ -81,6 +82,11 @@ public class GetAttendanceByTgCommand extends Command {
         this.currentWindow = window;
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         currentWindow = openWindows.pop();
@@ -92,6 +98,14 @@ public class GetAttendanceByTgCommand extends Command {
         return false;
     }
 
+    @Override
+    public CommandResult redo(Model model) throws CommandException {
+        // Undoing closed and forgot the window, so it has to be reopened
+        openWindows.push(window);
+        currentWindow = window;
+        return execute(model);
+    }
+
     /**
      * Closes all currently opened attendance windows.
      * @return true if windows were closed, false otherwise
@@ -105,5 +119,8 @@ public class GetAttendanceByTgCommand extends Command {
         return false;
     }
 
-
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
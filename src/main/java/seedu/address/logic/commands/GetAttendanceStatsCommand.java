@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BELOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.attendance.AttendanceMatrix;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * Summarises the attendance of a tutorial group over a range of dates: the turnout at each session, the attendance
+ * rate of each student, and the students whose rate is below a threshold.
+ */
+public class GetAttendanceStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "statsat";
+
+    public static final double DEFAULT_THRESHOLD = 75;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Summarises the attendance of a tutorial group between two dates, both inclusive.\n"
+            + "Parameters: "
+            + PREFIX_TUTORIAL_GROUP + "TUTORIAL_GROUP "
+            + "[" + PREFIX_FROM + "DATE] "
+            + "[" + PREFIX_TO + "DATE] "
+            + "[" + PREFIX_BELOW + "PERCENTAGE]\n"
+            + "Example: "
+            + COMMAND_WORD + " "
+            + PREFIX_TUTORIAL_GROUP + "T01 "
+            + PREFIX_FROM + "2024-01-01 "
+            + PREFIX_TO + "2024-04-30 "
+            + PREFIX_BELOW + "80";
+
+    public static final String MESSAGE_NO_STUDENTS = "No students found in tutorial group %1$s.";
+    public static final String MESSAGE_HEADER = "Attendance of tutorial group %1$s, %2$s:";
+    public static final String MESSAGE_NO_SESSIONS = "No attendance recorded.";
+    public static final String MESSAGE_SESSION = "%1$s: %2$d present, %3$d absent (%4$.0f%%)";
+    public static final String MESSAGE_STUDENT = "%1$s (%2$s): %3$d/%4$d present (%5$s)";
+    public static final String MESSAGE_BELOW = "Below %1$.0f%%: %2$s";
+
+    private final TutorialGroup tutorialGroup;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final double threshold;
+
+    /**
+     * Creates a GetAttendanceStatsCommand for the sessions of {@code tutorialGroup} from {@code from} to {@code to},
+     * both inclusive, that lists the students attending less than {@code threshold} percent of them.
+     */
+    public GetAttendanceStatsCommand(TutorialGroup tutorialGroup, LocalDate from, LocalDate to, double threshold) {
+        requireNonNull(tutorialGroup);
+        requireNonNull(from);
+        requireNonNull(to);
+        this.tutorialGroup = tutorialGroup;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Creates a GetAttendanceStatsCommand for all sessions of {@code tutorialGroup}, with the default threshold.
+     */
+    public GetAttendanceStatsCommand(TutorialGroup tutorialGroup) {
+        this(tutorialGroup, LocalDate.MIN, LocalDate.MAX, DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Student> students = model.getStudentsByTutorialGroup(tutorialGroup);
+        if (students.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS, tutorialGroup));
+        }
+
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_HEADER, tutorialGroup, describeRange()));
+        AttendanceMatrix matrix = model.getAttendanceMatrix(tutorialGroup);
+        if (matrix.getDates(from, to).isEmpty()) {
+            return new CommandResult(summary.append('\n').append(MESSAGE_NO_SESSIONS).toString());
+        }
+
+        summary.append("\nSessions:");
+        for (LocalDate date : matrix.getDates(from, to)) {
+            summary.append('\n').append(String.format(MESSAGE_SESSION, date, matrix.getPresentCount(date),
+                    matrix.getAbsentCount(date), 100 * matrix.getAttendanceRate(date).getAsDouble()));
+        }
+
+        summary.append("\nStudents:");
+        List<String> belowThreshold = new ArrayList<>();
+        for (Student student : students) {
+            int present = matrix.getSessionsPresent(student, from, to);
+            int recorded = matrix.getSessionsMarked(student, from, to);
+            double rate = recorded == 0 ? Double.NaN : 100.0 * present / recorded;
+            summary.append('\n').append(String.format(MESSAGE_STUDENT, student.getName(),
+                    student.getStudentNumber(), present, recorded,
+                    recorded == 0 ? "no records" : String.format("%.0f%%", rate)));
+            if (rate < threshold) {
+                belowThreshold.add(student.getName().toString());
+            }
+        }
+
+        if (!belowThreshold.isEmpty()) {
+            summary.append('\n').append(String.format(MESSAGE_BELOW, threshold, String.join(", ", belowThreshold)));
+        }
+        return new CommandResult(summary.toString());
+    }
+
+    private String describeRange() {
+        if (from.equals(LocalDate.MIN) && to.equals(LocalDate.MAX)) {
+            return "all dates";
+        } else if (from.equals(LocalDate.MIN)) {
+            return "up to " + to;
+        } else if (to.equals(LocalDate.MAX)) {
+            return "from " + from;
+        }
+        return "from " + from + " to " + to;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof GetAttendanceStatsCommand)) {
+            return false;
+        }
+        GetAttendanceStatsCommand otherCommand = (GetAttendanceStatsCommand) other;
+        return tutorialGroup.equals(otherCommand.tutorialGroup)
+                && from.equals(otherCommand.from)
+                && to.equals(otherCommand.to)
+                && threshold == otherCommand.threshold;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tutorialGroup", tutorialGroup)
+                .add("from", from)
+                .add("to", to)
+                .add("threshold", threshold)
+                .toString();
+    }
+}
@@ -36,10 +36,20 @@ public class ListCommand extends Command {
         return other instanceof ListCommand;
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         requireNonNull(model);
         model.updateFilteredStudentList(previousPredicate);
         return true;
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -59,19 +59,21 @@ public class MarkAbsentAllCommand extends Command {
             throw new CommandException(MESSAGE_EMPTY_TG);
         }
 
-        for (Student student : studentsFromSpecifiedTutorialGroup) {
-
-            previousAttendances.put(student, student.getAttendanceRecord().stream()
-                   .filter(record -> record.getDate().equals(date))
-                   .findFirst()
-                   .map(record -> record.getAttendance())
-                    .orElse(null));
-            student.markAttendance(date, "a");
-        }
+        model.batch(() -> {
+            for (Student student : studentsFromSpecifiedTutorialGroup) {
+                previousAttendances.put(student, student.getAttendance(date).orElse(null));
+                student.markAttendance(date, "a");
+            }
+        });
         return new CommandResult(String.format(MESSAGE_SUCCESS, tutorialGroup,
                 DateTimeFormatter.ofPattern("MMM d yyyy").format(date)));
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         requireNonNull(model);
@@ -81,17 +83,24 @@ public class MarkAbsentAllCommand extends Command {
             return false;
         }
 
-        for (Student student: studentsFromSpecifiedTutorialGroup) {
-            Attendance previousAttendance = previousAttendances.get(student);
-            if (previousAttendance != null) {
-                student.markAttendance(date, previousAttendance.value);
-            } else {
-                student.deleteAttendance(date);
+        model.batch(() -> {
+            for (Student student: studentsFromSpecifiedTutorialGroup) {
+                Attendance previousAttendance = previousAttendances.get(student);
+                if (previousAttendance != null) {
+                    student.markAttendance(date, previousAttendance.value);
+                } else {
+                    student.deleteAttendance(date);
+                }
             }
-        }
+        });
         return true;
     }
 
+    @Override
+    public long estimateUndoBytes() {
+        return BASE_UNDO_BYTES + ENTRY_UNDO_BYTES * previousAttendances.size();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -101,17 +101,18 @@ public class MarkAttendanceCommand extends Command {
 
 
         // Save the previous attendance state
-        previousAttendance = student.get().getAttendanceRecord().stream()
-                .filter(record -> record.getDate().equals(date))
-                .findFirst()
-                .map(record -> record.getAttendance())
-                .orElse(null);
+        previousAttendance = student.get().getAttendance(date).orElse(null);
         // Mark attendance
         student.get().markAttendance(date, attendance.value);
         return new CommandResult(String.format(MESSAGE_SUCCESS, name, attendance,
                 DateTimeFormatter.ofPattern("MMM d yyyy").format(date)));
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         if (student.isEmpty()) {
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * A command used to redo commands that were undone.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the most recently undone command.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redo successful";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There are no commands to redo";
+    public static final String MESSAGE_REDO_FAILED = "The undone command could not be redone: %1$s";
+
+    private final CommandStack commandStack;
+
+    /**
+     * Creates a RedoCommand that redoes the most recently undone command in {@code commandStack}.
+     */
+    public RedoCommand(CommandStack commandStack) {
+        requireNonNull(commandStack);
+        this.commandStack = commandStack;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        Command command = commandStack.popRedo();
+        if (command == null) {
+            return new CommandResult(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        try {
+            command.redo(model);
+        } catch (CommandException e) {
+            // Kept, so that it can be redone once whatever stopped it is fixed
+            commandStack.pushRedo(command);
+            return new CommandResult(String.format(MESSAGE_REDO_FAILED, e.getMessage()));
+        }
+        commandStack.pushUndo(command);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RedoCommand;
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file in order, as one command that is saved once and undone as a whole.
+ * Lines that could not be parsed or executed are skipped and reported. A script can only be undone if every command
+ * it ran that changed the data can be undone.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "Blank lines and lines starting with " + ScriptLine.COMMENT_MARKER + " are skipped. "
+            + "Scripts can only use commands that work on the data, so not undo, redo, run, help, exit, closeat "
+            + "or getattg.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " attendance.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d of %2$d commands from %3$s.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "The %1$s command cannot be used in a script.";
+
+    private final Path scriptPath;
+    private final List<ScriptLine> lines;
+    private final List<Command> executedCommands = new ArrayList<>();
+
+    /**
+     * Creates a RunScriptCommand to run the commands on {@code lines} of the script at {@code scriptPath}.
+     */
+    public RunScriptCommand(Path scriptPath, List<ScriptLine> lines) {
+        requireNonNull(scriptPath);
+        requireNonNull(lines);
+        this.scriptPath = scriptPath;
+        this.lines = List.copyOf(lines);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        executedCommands.clear();
+        StringBuilder failures = new StringBuilder();
+        // Listeners hear about each changed student once, when the whole script has run
+        model.batch(() -> {
+            for (ScriptLine line : lines) {
+                String error = line.getError();
+                if (error == null) {
+                    try {
+                        line.getCommand().execute(model);
+                        executedCommands.add(line.getCommand());
+                    } catch (CommandException ce) {
+                        error = ce.getMessage();
+                    }
+                }
+                if (error != null) {
+                    failures.append('\n').append(String.format(MESSAGE_LINE_FAILED, line.getLineNumber(), error));
+                }
+            }
+        });
+        return new CommandResult(String.format(MESSAGE_SUCCESS, executedCommands.size(), lines.size(), scriptPath)
+                + failures);
+    }
+
+    @Override
+    public boolean isUndoable() {
+        // Commands that only read the data have nothing to undo
+        return executedCommands.stream().allMatch(command -> command.isUndoable() || !command.isMutating());
+    }
+
+    @Override
+    public boolean undo(Model model) {
+        requireNonNull(model);
+        if (!isUndoable()) {
+            return false;
+        }
+        boolean[] isUndone = {true};
+        model.batch(() -> {
+            for (int i = executedCommands.size() - 1; i >= 0 && isUndone[0]; i--) {
+                Command command = executedCommands.get(i);
+                isUndone[0] = !command.isUndoable() || command.undo(model);
+            }
+        });
+        return isUndone[0];
+    }
+
+    @Override
+    public long estimateUndoBytes() {
+        return BASE_UNDO_BYTES + executedCommands.stream().mapToLong(Command::estimateUndoBytes).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunScriptCommand)) {
+            return false;
+        }
+
+        RunScriptCommand otherRunScriptCommand = (RunScriptCommand) other;
+        return scriptPath.equals(otherRunScriptCommand.scriptPath)
+                && lines.equals(otherRunScriptCommand.lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("lines", lines.size())
+                .toString();
+    }
+
+    /**
+     * A line of a script, with either the command parsed from it or the reason it could not be parsed.
+     */
+    public static class ScriptLine {
+        /** Lines starting with this are comments. */
+        public static final String COMMENT_MARKER = "#";
+
+        private final int lineNumber;
+        private final Command command;
+        private final String error;
+
+        private ScriptLine(int lineNumber, Command command, String error) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+            this.error = error;
+        }
+
+        /**
+         * Returns a line that was parsed into {@code command}.
+         */
+        public static ScriptLine parsed(int lineNumber, Command command) {
+            return new ScriptLine(lineNumber, requireNonNull(command), null);
+        }
+
+        /**
+         * Returns a line that could not be parsed for the reason given by {@code error}.
+         */
+        public static ScriptLine failed(int lineNumber, String error) {
+            return new ScriptLine(lineNumber, null, requireNonNull(error));
+        }
+
+        /**
+         * Returns true if {@code line} holds a command, rather than being blank or a comment.
+         */
+        public static boolean isCommand(String line) {
+            String trimmedLine = line.trim();
+            return !trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT_MARKER);
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public Command getCommand() {
+            return command;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScriptLine)) {
+                return false;
+            }
+
+            ScriptLine otherLine = (ScriptLine) other;
+            return lineNumber == otherLine.lineNumber
+                    && Objects.equals(command, otherLine.command)
+                    && Objects.equals(error, otherLine.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, command, error);
+        }
+    }
+}
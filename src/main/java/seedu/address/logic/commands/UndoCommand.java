@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
 import seedu.address.model.Model;
 
 /**
@@ -12,18 +14,31 @@ public class UndoCommand extends Command {
             + "Example: " + COMMAND_WORD;
 
     public static final String MESSAGE_SUCCESS = "Undo successful";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There are no commands to undo";
+    public static final String MESSAGE_UNDO_FAILED = "The previous command could not be undone";
+
+    private final CommandStack commandStack;
+
+    /**
+     * Creates an UndoCommand that undoes the most recent command in {@code commandStack}.
+     */
+    public UndoCommand(CommandStack commandStack) {
+        requireNonNull(commandStack);
+        this.commandStack = commandStack;
+    }
 
     @Override
     public CommandResult execute(Model model) {
-        Command command = CommandStack.popCommand();
+        Command command = commandStack.popUndo();
         if (command == null) {
-            return new CommandResult("There are no commands to undo");
+            return new CommandResult(MESSAGE_NOTHING_TO_UNDO);
         }
 
-        boolean isUndoable = command.undo(model);
-        if (!isUndoable) {
-            return new CommandResult("The previous command is not undoable");
+        boolean isUndone = command.undo(model);
+        if (!isUndone) {
+            return new CommandResult(MESSAGE_UNDO_FAILED);
         }
+        commandStack.pushRedo(command);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
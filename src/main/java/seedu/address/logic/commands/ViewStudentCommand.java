@@ -76,9 +76,19 @@ public class ViewStudentCommand extends Command {
                 .toString();
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public boolean undo(Model model) {
         model.updateFilteredStudentList(previousFilter);
         return true;
     }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
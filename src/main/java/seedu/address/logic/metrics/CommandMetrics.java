@@ -0,0 +1,96 @@
+package seedu.address.logic.metrics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+
+/**
+ * Records how long each command word spends in each phase of being run, for the current user session.
+ */
+public class CommandMetrics {
+
+    /**
+     * A phase of running a command.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        PERSIST
+    }
+
+    private static final String ROW_FORMAT = "%-14s %-8s %7s %10s %10s %10s %10s%n";
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new TreeMap<>();
+
+    /**
+     * Constructs an empty set of metrics.
+     */
+    public CommandMetrics() {
+    }
+
+    /**
+     * Records that {@code commandWord} spent {@code nanos} nanoseconds in {@code phase}.
+     */
+    public synchronized void record(String commandWord, Phase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+        histograms.computeIfAbsent(commandWord, unused -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, unused -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    /**
+     * Returns the durations recorded for {@code commandWord} in {@code phase}, if any.
+     */
+    public synchronized Optional<LatencyHistogram> getHistogram(String commandWord, Phase phase) {
+        return Optional.ofNullable(histograms.getOrDefault(commandWord, Map.of()).get(phase));
+    }
+
+    /**
+     * Forgets all recorded durations.
+     */
+    public synchronized void clear() {
+        histograms.clear();
+    }
+
+    /**
+     * Returns a table of the recorded durations by command word and phase, after the size of {@code addressBook}.
+     */
+    public synchronized String getReport(ReadOnlyAddressBook addressBook) {
+        StringBuilder report = new StringBuilder(getSizeSummary(addressBook.getStudentList()));
+        if (histograms.isEmpty()) {
+            return report.append("No commands timed yet.").toString();
+        }
+
+        report.append(String.format(ROW_FORMAT, "Command", "Phase", "Count", "Mean(ms)", "P50(ms)", "P95(ms)",
+                "Max(ms)"));
+        histograms.forEach((commandWord, phases) -> phases.forEach((phase, histogram) ->
+                report.append(String.format(ROW_FORMAT, commandWord, phase.name().toLowerCase(),
+                        histogram.getCount(), toMillis(histogram.getMeanNanos()),
+                        toMillis(histogram.getPercentileNanos(50)), toMillis(histogram.getPercentileNanos(95)),
+                        toMillis(histogram.getMaxNanos())))));
+        return report.toString().stripTrailing();
+    }
+
+    private static String getSizeSummary(List<Student> students) {
+        long assignmentCount = 0;
+        long attendanceRecordCount = 0;
+        for (Student student : students) {
+            assignmentCount += student.getAssignments().size();
+            attendanceRecordCount += student.getAttendanceRecord().size();
+        }
+        return String.format("Students: %d, assignments: %d, attendance records: %d%n",
+                students.size(), assignmentCount, attendanceRecordCount);
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", (double) nanos / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.metrics;
+
+/**
+ * Counts durations in buckets that double in width, so that it takes the same small space however many durations
+ * it records. Percentiles are reported as the upper bound of the bucket they fall in, which is within a factor of
+ * two of the true value.
+ */
+public class LatencyHistogram {
+
+    // Bucket i holds durations of up to 2^i nanoseconds, which covers any long
+    private static final int BUCKET_COUNT = 64;
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as zero.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        buckets[getBucket(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or 0 if none has been recorded.
+     */
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    /**
+     * Returns a duration that at least {@code percentile} percent of the recorded durations do not exceed,
+     * or 0 if none has been recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(getUpperBound(i), maxNanos);
+            }
+        }
+        return 0;
+    }
+
+    private static int getBucket(long nanos) {
+        return nanos <= 1 ? 0 : BUCKET_COUNT - Long.numberOfLeadingZeros(nanos - 1);
+    }
+
+    private static long getUpperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+}
@@ -1,48 +1,55 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.AddAssignmentByTgCommand;
-import seedu.address.logic.commands.AddAssignmentCommand;
-import seedu.address.logic.commands.AddStudentCommand;
-import seedu.address.logic.commands.CloseWindowCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.DeleteAllStudentsCommand;
-import seedu.address.logic.commands.DeleteAssignmentCommand;
-import seedu.address.logic.commands.DeleteAttendanceAllCommand;
-import seedu.address.logic.commands.DeleteAttendanceCommand;
-import seedu.address.logic.commands.DeleteStudentCommand;
-import seedu.address.logic.commands.EditAssignmentCommand;
-import seedu.address.logic.commands.EditStudentCommand;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.GetAttendanceByTgCommand;
-import seedu.address.logic.commands.GetAttendanceCommand;
+import seedu.address.logic.commands.CommandStack;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.commands.MarkAbsentAllCommand;
-import seedu.address.logic.commands.MarkAttendanceCommand;
-import seedu.address.logic.commands.MarkPresentAllCommand;
-import seedu.address.logic.commands.UndoCommand;
-import seedu.address.logic.commands.ViewStudentCommand;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 
-
 /**
  * Parses user input.
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry commandRegistry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser whose undo and redo commands work on a command stack of its own, and whose stats command
+     * shows metrics of its own.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(new CommandStack(), new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose undo and redo commands work on {@code commandStack}, and whose stats command shows
+     * {@code metrics}.
+     */
+    public AddressBookParser(CommandStack commandStack, CommandMetrics metrics) {
+        this(CommandRegistry.withDefaultCommands(commandStack, metrics));
+    }
+
+    /**
+     * Creates a parser for the commands in {@code commandRegistry}.
+     */
+    public AddressBookParser(CommandRegistry commandRegistry) {
+        requireNonNull(commandRegistry);
+        this.commandRegistry = commandRegistry;
+    }
+
+    public CommandRegistry getCommandRegistry() {
+        return commandRegistry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -52,88 +59,47 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String input = userInput.trim();
+        if (input.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        // The arguments keep their leading whitespace
+        int wordEnd = getCommandWordEnd(input);
+        final String commandWord = input.substring(0, wordEnd);
+        final String arguments = input.substring(wordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case ViewStudentCommand.COMMAND_WORD:
-            return new ViewStudentCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case AddStudentCommand.COMMAND_WORD:
-            return new AddStudentCommandParser().parse(arguments);
-
-        case DeleteStudentCommand.COMMAND_WORD:
-            return new DeleteStudentCommandParser().parse(arguments);
-
-        case DeleteAllStudentsCommand.COMMAND_WORD:
-            return new DeleteAllStudentsCommand();
-
-        case MarkAttendanceCommand.COMMAND_WORD:
-            return new MarkAttendanceCommandParser().parse(arguments);
-
-        case DeleteAttendanceCommand.COMMAND_WORD:
-            return new DeleteAttendanceCommandParser().parse(arguments);
-
-        case AddAssignmentCommand.COMMAND_WORD:
-            return new AddAssignmentCommandParser().parse(arguments);
-
-        case DeleteAssignmentCommand.COMMAND_WORD:
-            return new DeleteAssignmentCommandParser().parse(arguments);
-
-        case EditStudentCommand.COMMAND_WORD:
-            return new EditStudentCommandParser().parse(arguments);
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case GetAttendanceByTgCommand.COMMAND_WORD:
-            return new GetAttendanceByTgCommandParser().parse(arguments);
-
-        case GetAttendanceCommand.COMMAND_WORD:
-            return new GetAttendanceCommandParser().parse(arguments);
-
-        case MarkPresentAllCommand.COMMAND_WORD:
-            return new MarkPresentAllCommandParser().parse(arguments);
-
-        case MarkAbsentAllCommand.COMMAND_WORD:
-            return new MarkAbsentAllCommandParser().parse(arguments);
-
-        case DeleteAttendanceAllCommand.COMMAND_WORD:
-            return new DeleteAttendanceAllCommandParser().parse(arguments);
-
-        case EditAssignmentCommand.COMMAND_WORD:
-            return new EditAssignmentCommandParser().parse(arguments);
-
-        case CloseWindowCommand.COMMAND_WORD:
-            return new CloseWindowCommandParser().parse(arguments);
-
-        case AddAssignmentByTgCommand.COMMAND_WORD:
-            return new AddAssignmentByTgCommandParser().parse(arguments);
-
-        default:
+        Optional<Parser<? extends Command>> parser = commandRegistry.getParser(commandWord);
+        if (parser.isEmpty()) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.get().parse(arguments);
+    }
+
+    /**
+     * Returns the command word of {@code userInput}, i.e. everything before the first whitespace after any
+     * leading whitespace. Returns an empty string if {@code userInput} is blank.
+     */
+    public static String getCommandWord(String userInput) {
+        final String input = userInput.trim();
+        return input.substring(0, getCommandWordEnd(input));
+    }
+
+    /**
+     * Returns the index just past the command word of the trimmed {@code input}.
+     */
+    private static int getCommandWordEnd(String input) {
+        int wordEnd = 0;
+        while (wordEnd < input.length() && !Character.isWhitespace(input.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        return wordEnd;
     }
 
 }
@@ -16,11 +16,15 @@ public class CliSyntax {
     public static final Prefix PREFIX_STUDENT_NUMBER = new Prefix("sn/");
     public static final Prefix PREFIX_DATE = new Prefix("dt/");
     public static final Prefix PREFIX_PRESENT = new Prefix("pr/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_BELOW = new Prefix("below/");
     public static final Prefix[] PREFIX_ARRAY = {
         PREFIX_NAME, PREFIX_PHONE,
         PREFIX_ASSIGNMENT, PREFIX_DEADLINE,
         PREFIX_STATUS, PREFIX_GRADE,
         PREFIX_TUTORIAL_GROUP, PREFIX_STUDENT_NUMBER,
-        PREFIX_DATE, PREFIX_PRESENT
+        PREFIX_DATE, PREFIX_PRESENT,
+        PREFIX_FROM, PREFIX_TO, PREFIX_BELOW
     };
 }
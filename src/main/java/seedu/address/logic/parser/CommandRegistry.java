@@ -0,0 +1,145 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import seedu.address.logic.commands.AddAssignmentByTgCommand;
+import seedu.address.logic.commands.AddAssignmentCommand;
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.CloseWindowCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandStack;
+import seedu.address.logic.commands.DeleteAllStudentsCommand;
+import seedu.address.logic.commands.DeleteAssignmentCommand;
+import seedu.address.logic.commands.DeleteAttendanceAllCommand;
+import seedu.address.logic.commands.DeleteAttendanceCommand;
+import seedu.address.logic.commands.DeleteStudentCommand;
+import seedu.address.logic.commands.EditAssignmentCommand;
+import seedu.address.logic.commands.EditStudentCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.GetAttendanceByTgCommand;
+import seedu.address.logic.commands.GetAttendanceCommand;
+import seedu.address.logic.commands.GetAttendanceStatsCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkAbsentAllCommand;
+import seedu.address.logic.commands.MarkAttendanceCommand;
+import seedu.address.logic.commands.MarkPresentAllCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewStudentCommand;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps each command word to the parser for its command.
+ * Parsers are stateless, so one instance of each is shared by every registry.
+ */
+public class CommandRegistry {
+
+    private static final Map<String, Parser<? extends Command>> SHARED_PARSERS = createSharedParsers();
+
+    // Commands that act on the command history or the app's windows rather than on the data
+    private static final List<String> SCRIPT_EXCLUDED_COMMAND_WORDS = List.of(UndoCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD, RunScriptCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, CloseWindowCommand.COMMAND_WORD, GetAttendanceByTgCommand.COMMAND_WORD);
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Creates a registry with no commands.
+     */
+    public CommandRegistry() {}
+
+    /**
+     * Returns a registry with all the app's commands, whose undo and redo commands work on {@code commandStack}
+     * and whose stats command shows {@code metrics}.
+     * Scripts run by its run command can only use the commands that work on the data; lines with any other
+     * command fail to parse.
+     */
+    public static CommandRegistry withDefaultCommands(CommandStack commandStack, CommandMetrics metrics) {
+        requireNonNull(commandStack);
+        requireNonNull(metrics);
+        Parser<StatsCommand> statsCommandParser = arguments -> new StatsCommand(metrics);
+
+        CommandRegistry scriptRegistry = new CommandRegistry();
+        scriptRegistry.parsers.putAll(SHARED_PARSERS);
+        scriptRegistry.register(StatsCommand.COMMAND_WORD, statsCommandParser);
+        for (String commandWord : SCRIPT_EXCLUDED_COMMAND_WORDS) {
+            scriptRegistry.parsers.put(commandWord, arguments -> {
+                throw new ParseException(String.format(RunScriptCommand.MESSAGE_NOT_IN_SCRIPT, commandWord));
+            });
+        }
+
+        CommandRegistry registry = new CommandRegistry();
+        registry.parsers.putAll(SHARED_PARSERS);
+        registry.register(StatsCommand.COMMAND_WORD, statsCommandParser);
+        registry.register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand(commandStack));
+        registry.register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand(commandStack));
+        registry.register(RunScriptCommand.COMMAND_WORD,
+                new RunScriptCommandParser(new AddressBookParser(scriptRegistry)));
+        return registry;
+    }
+
+    private static Map<String, Parser<? extends Command>> createSharedParsers() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(ViewStudentCommand.COMMAND_WORD, new ViewStudentCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(AddStudentCommand.COMMAND_WORD, new AddStudentCommandParser());
+        registry.register(DeleteStudentCommand.COMMAND_WORD, new DeleteStudentCommandParser());
+        registry.register(DeleteAllStudentsCommand.COMMAND_WORD, arguments -> new DeleteAllStudentsCommand());
+        registry.register(MarkAttendanceCommand.COMMAND_WORD, new MarkAttendanceCommandParser());
+        registry.register(DeleteAttendanceCommand.COMMAND_WORD, new DeleteAttendanceCommandParser());
+        registry.register(AddAssignmentCommand.COMMAND_WORD, new AddAssignmentCommandParser());
+        registry.register(DeleteAssignmentCommand.COMMAND_WORD, new DeleteAssignmentCommandParser());
+        registry.register(EditStudentCommand.COMMAND_WORD, new EditStudentCommandParser());
+        registry.register(GetAttendanceByTgCommand.COMMAND_WORD, new GetAttendanceByTgCommandParser());
+        registry.register(GetAttendanceCommand.COMMAND_WORD, new GetAttendanceCommandParser());
+        registry.register(MarkPresentAllCommand.COMMAND_WORD, new MarkPresentAllCommandParser());
+        registry.register(MarkAbsentAllCommand.COMMAND_WORD, new MarkAbsentAllCommandParser());
+        registry.register(DeleteAttendanceAllCommand.COMMAND_WORD, new DeleteAttendanceAllCommandParser());
+        registry.register(EditAssignmentCommand.COMMAND_WORD, new EditAssignmentCommandParser());
+        registry.register(CloseWindowCommand.COMMAND_WORD, new CloseWindowCommandParser());
+        registry.register(AddAssignmentByTgCommand.COMMAND_WORD, new AddAssignmentByTgCommandParser());
+        registry.register(GetAttendanceStatsCommand.COMMAND_WORD, new GetAttendanceStatsCommandParser());
+        return Map.copyOf(registry.parsers);
+    }
+
+    /**
+     * Registers {@code parser} as the parser for commands starting with {@code commandWord}.
+     * The same parser may be registered under several command words, e.g. as an alias.
+     * @throws IllegalArgumentException if {@code commandWord} is already registered
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        if (parsers.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException("Command word already registered: " + commandWord);
+        }
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    /**
+     * Returns the registered command words in alphabetical order.
+     */
+    public SortedSet<String> getCommandWords() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(parsers.keySet()));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BELOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIAL_GROUP;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.GetAttendanceStatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * Parses input arguments and creates a new GetAttendanceStatsCommand object
+ */
+public class GetAttendanceStatsCommandParser implements Parser<GetAttendanceStatsCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start date must not be after the end date.";
+
+    @Override
+    public GetAttendanceStatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_TUTORIAL_GROUP, PREFIX_FROM, PREFIX_TO, PREFIX_BELOW);
+        argMultimap.verifyNoInvalidPrefixesFor(args);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TUTORIAL_GROUP, PREFIX_FROM, PREFIX_TO, PREFIX_BELOW);
+
+        if (argMultimap.getValue(PREFIX_TUTORIAL_GROUP).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    GetAttendanceStatsCommand.MESSAGE_USAGE));
+        }
+
+        TutorialGroup tutorialGroup = ParserUtil.parseTutorialGroup(argMultimap.getValue(PREFIX_TUTORIAL_GROUP).get());
+        LocalDate from = parseDate(argMultimap.getValue(PREFIX_FROM)).orElse(LocalDate.MIN);
+        LocalDate to = parseDate(argMultimap.getValue(PREFIX_TO)).orElse(LocalDate.MAX);
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        double threshold = argMultimap.getValue(PREFIX_BELOW).isPresent()
+                ? ParserUtil.parsePercentage(argMultimap.getValue(PREFIX_BELOW).get())
+                : GetAttendanceStatsCommand.DEFAULT_THRESHOLD;
+
+        return new GetAttendanceStatsCommand(tutorialGroup, from, to, threshold);
+    }
+
+    private static Optional<LocalDate> parseDate(Optional<String> date) throws ParseException {
+        return date.isPresent() ? Optional.of(ParserUtil.parseDate(date.get())) : Optional.empty();
+    }
+}
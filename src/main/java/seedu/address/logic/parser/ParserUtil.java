@@ -3,15 +3,15 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.assignment.AssignmentName;
@@ -31,6 +31,9 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_PERCENTAGE = "Percentage should be a number from 0 to 100.";
+
+    private static final Pattern PERCENTAGE_PATTERN = Pattern.compile("\\d{1,3}(\\.\\d+)?");
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -111,7 +114,7 @@ public class ParserUtil {
         if (!TutorialGroup.isValidTutorialGroup(trimmedTutorialGroup)) {
             throw new ParseException(TutorialGroup.MESSAGE_CONSTRAINTS);
         }
-        return new TutorialGroup(trimmedTutorialGroup);
+        return TutorialGroup.of(trimmedTutorialGroup);
     }
 
     /**
@@ -137,17 +140,26 @@ public class ParserUtil {
     public static LocalDate parseDate(String date) throws ParseException {
         requireNonNull(date);
         String trimmedDate = date.trim();
-        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE;
-        LocalDate parsedDate;
-
-        try {
-            parsedDate = LocalDate.parse(trimmedDate, formatter);
-        } catch (DateTimeParseException e) {
-            throw new ParseException("Invalid date format or invalid date. "
-                    + "Please provide a correct date in YYYY-MM-DD format.");
-        }
+        return DateUtil.parseIsoDate(trimmedDate).orElseThrow(() -> new ParseException(
+                "Invalid date format or invalid date. Please provide a correct date in YYYY-MM-DD format."));
+    }
 
-        return parsedDate;
+    /**
+     * Parses a {@code String percentage} from 0 to 100 into a {@code double}.
+     *
+     * @throws ParseException If the given percentage is not a number from 0 to 100.
+     */
+    public static double parsePercentage(String percentage) throws ParseException {
+        requireNonNull(percentage);
+        String trimmedPercentage = percentage.trim();
+        if (!PERCENTAGE_PATTERN.matcher(trimmedPercentage).matches()) {
+            throw new ParseException(MESSAGE_INVALID_PERCENTAGE);
+        }
+        double value = Double.parseDouble(trimmedPercentage);
+        if (value > 100) {
+            throw new ParseException(MESSAGE_INVALID_PERCENTAGE);
+        }
+        return value;
     }
 
     /**
@@ -165,7 +177,7 @@ public class ParserUtil {
         if (!Attendance.isValidAttendance(trimmedStatus)) {
             throw new ParseException(Attendance.MESSAGE_CONSTRAINTS);
         }
-        return new Attendance(trimmedStatus);
+        return Attendance.of(trimmedStatus);
     }
 
     /**
@@ -196,7 +208,7 @@ public class ParserUtil {
         if (!Deadline.isValidDeadline(trimmedDate)) {
             throw new ParseException(Deadline.MESSAGE_CONSTRAINTS);
         }
-        return new Deadline(trimmedDate);
+        return Deadline.of(trimmedDate);
     }
 
     /**
@@ -212,7 +224,7 @@ public class ParserUtil {
         if (!Status.isValidStatus(trimmedStatus)) {
             throw new ParseException(Status.MESSAGE_CONSTRAINTS);
         }
-        return new Status(trimmedStatus);
+        return Status.of(trimmedStatus);
     }
 
     /**
@@ -250,6 +262,6 @@ public class ParserUtil {
         if (!Grade.isValidGrade(trimmedGrade)) {
             throw new ParseException(Grade.MESSAGE_CONSTRAINTS);
         }
-        return new Grade(trimmedGrade);
+        return Grade.of(trimmedGrade);
     }
 }
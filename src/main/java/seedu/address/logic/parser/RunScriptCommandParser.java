@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.RunScriptCommand.ScriptLine;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object.
+ * The script is read and all its lines are parsed here, in parallel, so that running it only executes commands.
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    public static final String MESSAGE_CANNOT_READ = "Could not read the script file %1$s";
+
+    private final AddressBookParser lineParser;
+
+    /**
+     * Creates a parser for scripts whose lines are parsed by {@code lineParser}.
+     */
+    public RunScriptCommandParser(AddressBookParser lineParser) {
+        requireNonNull(lineParser);
+        this.lineParser = lineParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the script cannot be read
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        Path scriptPath;
+        try {
+            scriptPath = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(scriptPath);
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ, trimmedArgs), e);
+        }
+
+        // Parsers are stateless, so lines can be parsed on several threads; the stream keeps them in order
+        List<ScriptLine> scriptLines = IntStream.range(0, lines.size()).parallel()
+                .filter(i -> ScriptLine.isCommand(lines.get(i)))
+                .mapToObj(i -> parseLine(i + 1, lines.get(i)))
+                .collect(Collectors.toList());
+        return new RunScriptCommand(scriptPath, scriptLines);
+    }
+
+    private ScriptLine parseLine(int lineNumber, String line) {
+        try {
+            return ScriptLine.parsed(lineNumber, lineParser.parseCommand(line));
+        } catch (ParseException pe) {
+            return ScriptLine.failed(lineNumber, pe.getMessage());
+        }
+    }
+}
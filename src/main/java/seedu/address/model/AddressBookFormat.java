@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The file formats the address book can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, with changes journalled between full rewrites. */
+    JSON,
+    /** Compact binary encoding that is faster to load and smaller on disk. */
+    BINARY
+}
@@ -0,0 +1,147 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.model.attendance.AttendanceMatrix;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * An {@code AttendanceMatrix} for each tutorial group of an observable student list.
+ * The matrices follow the list, each student's attendance records and each record's attendance through their change
+ * events, so they are up to date once the notifications of a change have been sent.
+ * <p>
+ * Students and records only hold weak references to the listeners, so the matrices do not keep a discarded model
+ * alive, however long the students outlive it.
+ */
+class AttendanceMatrices implements ListChangeListener<Student> {
+
+    private final Map<TutorialGroup, AttendanceMatrix> matricesByGroup = new HashMap<>();
+    // Students are matched by identity, as they compare equal by value
+    private final Map<Student, RecordsListener> listenersByStudent = new IdentityHashMap<>();
+    private final ListChangeListener<Student> weakListener = new WeakListChangeListener<>(this);
+
+    /**
+     * Creates matrices of the attendance of {@code students} and starts listening to them for changes.
+     */
+    AttendanceMatrices(ObservableList<Student> students) {
+        requireNonNull(students);
+        students.forEach(this::track);
+        students.addListener(weakListener);
+    }
+
+    /**
+     * Returns the matrix of {@code tutorialGroup}, or an empty matrix if the group has no students.
+     */
+    AttendanceMatrix get(TutorialGroup tutorialGroup) {
+        AttendanceMatrix matrix = matricesByGroup.get(tutorialGroup);
+        return matrix == null ? new AttendanceMatrix() : matrix;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Student> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    private void track(Student student) {
+        AttendanceMatrix matrix = matricesByGroup.computeIfAbsent(student.getTutorialGroup(),
+                unused -> new AttendanceMatrix());
+        matrix.addStudent(student);
+        RecordsListener listener = new RecordsListener(student, matrix);
+        listenersByStudent.put(student, listener);
+        student.getAttendanceRecord().forEach(listener::count);
+        student.getAttendanceRecord().addListener(listener.weakListChangeListener);
+    }
+
+    private void untrack(Student student) {
+        RecordsListener listener = listenersByStudent.remove(student);
+        if (listener == null) {
+            return;
+        }
+        student.getAttendanceRecord().removeListener(listener.weakListChangeListener);
+        listener.uncountAll();
+        AttendanceMatrix matrix = matricesByGroup.get(student.getTutorialGroup());
+        matrix.removeStudent(student);
+        if (matrix.isEmpty()) {
+            matricesByGroup.remove(student.getTutorialGroup());
+        }
+    }
+
+    /**
+     * Keeps one student's row of the matrix of the student's group in step with the student's attendance records.
+     */
+    private static class RecordsListener implements ListChangeListener<AttendanceRecord>, InvalidationListener {
+        private final Student student;
+        private final AttendanceMatrix matrix;
+        // The record counted for each date. A record can be reported added before the one it replaced is reported
+        // removed, so a removed record only clears its date if it is still the one counted there
+        private final Map<LocalDate, AttendanceRecord> countedByDate = new HashMap<>();
+        private final ListChangeListener<AttendanceRecord> weakListChangeListener =
+                new WeakListChangeListener<>(this);
+        private final InvalidationListener weakInvalidationListener = new WeakInvalidationListener(this);
+
+        RecordsListener(Student student, AttendanceMatrix matrix) {
+            this.student = student;
+            this.matrix = matrix;
+        }
+
+        @Override
+        public void onChanged(Change<? extends AttendanceRecord> change) {
+            while (change.next()) {
+                change.getRemoved().forEach(this::uncount);
+                change.getAddedSubList().forEach(this::count);
+            }
+        }
+
+        @Override
+        public void invalidated(Observable observable) {
+            AttendanceRecord record = (AttendanceRecord) observable;
+            if (countedByDate.get(record.getDate()) == record) {
+                matrix.set(student, record.getDate(), record.getAttendance());
+            }
+        }
+
+        void count(AttendanceRecord record) {
+            AttendanceRecord replaced = countedByDate.put(record.getDate(), record);
+            if (replaced != record) {
+                if (replaced != null) {
+                    replaced.removeListener(weakInvalidationListener);
+                }
+                record.addListener(weakInvalidationListener);
+            }
+            matrix.set(student, record.getDate(), record.getAttendance());
+        }
+
+        void uncount(AttendanceRecord record) {
+            if (countedByDate.get(record.getDate()) != record) {
+                return;
+            }
+            countedByDate.remove(record.getDate());
+            record.removeListener(weakInvalidationListener);
+            matrix.clear(student, record.getDate());
+        }
+
+        void uncountAll() {
+            countedByDate.values().forEach(record -> {
+                record.removeListener(weakInvalidationListener);
+                matrix.clear(student, record.getDate());
+            });
+            countedByDate.clear();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.attendance.AttendanceMatrix;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.TutorialGroup;
@@ -116,6 +117,12 @@ public interface Model {
      */
     List<Student> getStudentsByTutorialGroup(TutorialGroup tutorialGroup);
 
+    /**
+     * Returns the attendance of the students in the given tutorial group, one row per student.
+     * The matrix stays up to date as their attendance changes, while the group has students.
+     */
+    AttendanceMatrix getAttendanceMatrix(TutorialGroup tutorialGroup);
+
     /**
      * Returns a list of students with the given name.
      */
@@ -126,4 +133,10 @@ public interface Model {
      */
     void replaceStudentList(ObservableList<Student> studentList);
 
+    /**
+     * Runs {@code changes}, which change this model, as one batch. Listeners to the students and their records are
+     * notified once per changed list or record, after all of {@code changes} has run, instead of once per change.
+     */
+    void batch(Runnable changes);
+
 }
@@ -8,16 +8,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.attendance.AttendanceMatrix;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.TutorialGroup;
+import seedu.address.model.util.ChangeBatch;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,6 +29,8 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredStudents;
+    private final StudentIndex studentIndex;
+    private final AttendanceMatrices attendanceMatrices;
     private Predicate<Student> filter = PREDICATE_SHOW_ALL_STUDENTS;
 
 
@@ -42,6 +45,8 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
+        studentIndex = new StudentIndex(this.addressBook.getStudentList());
+        attendanceMatrices = new AttendanceMatrices(this.addressBook.getStudentList());
     }
 
     public ModelManager() {
@@ -134,6 +139,12 @@ public class ModelManager implements Model {
         addressBook.replaceStudentList(studentList);
     }
 
+    @Override
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        ChangeBatch.run(changes);
+    }
+
     @Override
     public ObservableList<Student> deleteAllStudents() {
         return addressBook.removeAllStudents();
@@ -159,13 +170,8 @@ public class ModelManager implements Model {
 
     @Override
     public Student getStudentByName(Name name) {
-        for (Student student : getAddressBook().getStudentList()) {
-            if (student.getName().equals(name)) {
-                return student;
-            }
-        }
-        return null; // Return null if no matching student is found
-
+        List<Student> students = studentIndex.getByName(name);
+        return students.isEmpty() ? null : students.get(0); // Return null if no matching student is found
     }
 
     @Override
@@ -186,22 +192,18 @@ public class ModelManager implements Model {
 
     @Override
     public List<Student> getStudentsByTutorialGroup(TutorialGroup tutorialGroup) {
-        List<Student> studentsInTG = new ArrayList<>();
-        for (Student student : getAddressBook().getStudentList()) {
-            if (student.getTutorialGroup().equals(tutorialGroup)) {
-                studentsInTG.add(student);
-            }
-        }
-        return studentsInTG;
+        return new ArrayList<>(studentIndex.getByTutorialGroup(tutorialGroup));
+    }
+
+    @Override
+    public AttendanceMatrix getAttendanceMatrix(TutorialGroup tutorialGroup) {
+        requireNonNull(tutorialGroup);
+        return attendanceMatrices.get(tutorialGroup);
     }
 
     @Override
     public ObservableList<Student> getAllStudentsByName(Name name) {
-        return getAddressBook()
-                .getStudentList()
-                .stream()
-                .filter(s -> s.getName().equals(name))
-                .collect(Collectors.toCollection(FXCollections::observableArrayList));
+        return FXCollections.observableArrayList(studentIndex.getByName(name));
     }
 
     public ObservableList<Student> getAllStudents() {
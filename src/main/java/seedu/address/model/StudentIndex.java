@@ -0,0 +1,161 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * Secondary indexes over an observable student list, keyed by {@code TutorialGroup} and by {@code Name}.
+ * The indexes follow the list through its change events. Students are kept in list order within each key.
+ * Additions, removals and replacements patch only the keys of the students involved. A student replaced by one
+ * with the same key takes its place; any other added student goes right after the nearest student before it in
+ * the list with the same key. Permutations, and changes that replace the whole list, mark the indexes as stale,
+ * and they are rebuilt on the next lookup.
+ */
+class StudentIndex implements ListChangeListener<Student> {
+
+    private final ObservableList<Student> students;
+    private final Map<TutorialGroup, List<Student>> studentsByTutorialGroup = new HashMap<>();
+    private final Map<Name, List<Student>> studentsByName = new HashMap<>();
+    private boolean isStale;
+
+    /**
+     * Creates a {@code StudentIndex} over {@code students} and starts listening to it for changes.
+     */
+    StudentIndex(ObservableList<Student> students) {
+        requireNonNull(students);
+        this.students = students;
+        rebuild();
+        students.addListener(this);
+    }
+
+    /**
+     * Returns the students in {@code tutorialGroup}, in list order.
+     * The returned list is unmodifiable and is only valid until the student list next changes.
+     */
+    List<Student> getByTutorialGroup(TutorialGroup tutorialGroup) {
+        refreshIfStale();
+        return Collections.unmodifiableList(studentsByTutorialGroup.getOrDefault(tutorialGroup, List.of()));
+    }
+
+    /**
+     * Returns the students named {@code name}, in list order.
+     * The returned list is unmodifiable and is only valid until the student list next changes.
+     */
+    List<Student> getByName(Name name) {
+        refreshIfStale();
+        return Collections.unmodifiableList(studentsByName.getOrDefault(name, List.of()));
+    }
+
+    @Override
+    public void onChanged(Change<? extends Student> change) {
+        while (change.next() && !isStale) {
+            if (change.wasPermutated() || change.getAddedSize() == change.getList().size()) {
+                isStale = true;
+                break;
+            }
+
+            if (change.getRemovedSize() == change.getAddedSize()) {
+                for (int i = 0; i < change.getAddedSize(); i++) {
+                    replace(change.getRemoved().get(i), change.getAddedSubList().get(i), change.getFrom() + i);
+                }
+                continue;
+            }
+
+            for (Student removed : change.getRemoved()) {
+                removeFrom(studentsByTutorialGroup, removed.getTutorialGroup(), removed);
+                removeFrom(studentsByName, removed.getName(), removed);
+            }
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                insertInto(studentsByTutorialGroup, Student::getTutorialGroup, i);
+                insertInto(studentsByName, Student::getName, i);
+            }
+        }
+    }
+
+    private void refreshIfStale() {
+        if (isStale) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        studentsByTutorialGroup.clear();
+        studentsByName.clear();
+        students.forEach(this::add);
+        isStale = false;
+    }
+
+    private void add(Student student) {
+        addTo(studentsByTutorialGroup, Student::getTutorialGroup, student);
+        addTo(studentsByName, Student::getName, student);
+    }
+
+    private static <K> void addTo(Map<K, List<Student>> index, Function<Student, K> keyOf, Student student) {
+        index.computeIfAbsent(keyOf.apply(student), unused -> new ArrayList<>()).add(student);
+    }
+
+    /**
+     * Replaces {@code removed} with {@code added}, which is at {@code listIndex} in the list, in both indexes.
+     */
+    private void replace(Student removed, Student added, int listIndex) {
+        replaceIn(studentsByTutorialGroup, Student::getTutorialGroup, removed, added, listIndex);
+        replaceIn(studentsByName, Student::getName, removed, added, listIndex);
+    }
+
+    private <K> void replaceIn(Map<K, List<Student>> index, Function<Student, K> keyOf, Student removed,
+                               Student added, int listIndex) {
+        K key = keyOf.apply(removed);
+        if (key.equals(keyOf.apply(added))) {
+            List<Student> bucket = index.get(key);
+            bucket.set(bucket.indexOf(removed), added);
+            return;
+        }
+        removeFrom(index, key, removed);
+        insertInto(index, keyOf, listIndex);
+    }
+
+    /**
+     * Adds the student at {@code listIndex} in the list to {@code index}, after the students with the same key that
+     * come before it in the list.
+     */
+    private <K> void insertInto(Map<K, List<Student>> index, Function<Student, K> keyOf, int listIndex) {
+        Student student = students.get(listIndex);
+        K key = keyOf.apply(student);
+        List<Student> bucket = index.get(key);
+        if (bucket == null || listIndex == students.size() - 1) {
+            addTo(index, keyOf, student);
+            return;
+        }
+        for (int i = listIndex - 1; i >= 0; i--) {
+            Student before = students.get(i);
+            if (key.equals(keyOf.apply(before))) {
+                bucket.add(bucket.indexOf(before) + 1, student);
+                return;
+            }
+        }
+        bucket.add(0, student);
+    }
+
+    private static <K> void removeFrom(Map<K, List<Student>> index, K key, Student student) {
+        List<Student> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(student);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -111,11 +111,19 @@ public class Assignment {
     }
 
     public State getState() {
+        return getState(LocalDate.now());
+    }
+
+    /**
+     * Returns the state of the assignment on {@code today}.
+     * Only an assignment that is neither graded nor submitted changes state from day to day.
+     */
+    public State getState(LocalDate today) {
         return grade.isGraded()
                 ? State.GRADED
                 : submissionStatus.isSubmitted()
                     ? State.SUBMITTED
-                    : LocalDate.now().isBefore(deadline.deadline)
+                    : today.isBefore(deadline.deadline)
                         ? State.PENDING
                         : State.LATE;
     }
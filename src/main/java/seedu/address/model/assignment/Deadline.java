@@ -5,7 +5,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.util.Interner;
 
 /**
  * Represents an assignment's status
@@ -17,6 +20,9 @@ public class Deadline {
             "Invalid date format or invalid date. Please provide a correct date in YYYY-MM-DD format.";
 
     public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    // A semester has few distinct deadlines, so all of them can be kept
+    private static final Interner<LocalDate, Deadline> DEADLINES = new Interner<>(Deadline::new);
+
     public final LocalDate deadline;
 
     /**
@@ -26,20 +32,30 @@ public class Deadline {
      */
     public Deadline(String deadline) {
         requireNonNull(deadline);
-        checkArgument(isValidDeadline(deadline), MESSAGE_CONSTRAINTS);
-        this.deadline = LocalDate.parse(deadline, DATE_TIME_FORMATTER);
+        Optional<LocalDate> parsedDeadline = DateUtil.parseIsoDate(deadline);
+        checkArgument(parsedDeadline.isPresent(), MESSAGE_CONSTRAINTS);
+        this.deadline = parsedDeadline.get();
+    }
+
+    private Deadline(LocalDate deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns the shared {@code Deadline} for {@code deadline}, which must be a valid deadline.
+     */
+    public static Deadline of(String deadline) {
+        requireNonNull(deadline);
+        Optional<LocalDate> parsedDeadline = DateUtil.parseIsoDate(deadline);
+        checkArgument(parsedDeadline.isPresent(), MESSAGE_CONSTRAINTS);
+        return DEADLINES.intern(parsedDeadline.get());
     }
 
     /**
      * Returns if given string is a valid deadline
      */
     public static boolean isValidDeadline(String deadline) {
-        try {
-            LocalDate.parse(deadline, DATE_TIME_FORMATTER);
-        } catch (DateTimeParseException e) {
-            return false;
-        }
-        return true;
+        return DateUtil.parseIsoDate(deadline).isPresent();
     }
 
     @Override
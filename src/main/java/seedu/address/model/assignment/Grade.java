@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 /**
  * Represents an assignment's grade
@@ -16,6 +18,13 @@ public class Grade {
             + "OR NULL if not graded";
 
     public static final String VALIDATION_REGEX = "[0-9]{1,2}\\.[0-9]*|NULL|[0-9]{1,2}|100(\\.0*)?";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Grade UNGRADED = new Grade();
+    // Whole-number grades are by far the most common, so one of each is shared
+    private static final Grade[] WHOLE_GRADES = IntStream.rangeClosed(0, 100)
+            .mapToObj(grade -> new Grade((double) grade))
+            .toArray(Grade[]::new);
 
     public final Optional<Double> grade;
 
@@ -41,18 +50,37 @@ public class Grade {
         this.grade = Optional.empty();
     }
 
+    private Grade(double grade) {
+        this.grade = Optional.of(grade);
+    }
+
     /**
      * Returns true is given string is a valid grade
      */
     public static boolean isValidGrade(String grade) {
-        return grade.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(grade).matches();
     }
 
     /**
      * Factory method to create a default {@code Grade}
      */
     public static Grade getDefault() {
-        return new Grade();
+        return UNGRADED;
+    }
+
+    /**
+     * Returns a {@code Grade} for {@code grade}, which must be a valid grade.
+     * Whole-number grades and NULL are shared instances.
+     */
+    public static Grade of(String grade) {
+        requireNonNull(grade);
+        checkArgument(isValidGrade(grade), MESSAGE_CONSTRAINTS);
+        if (grade.equals("NULL")) {
+            return UNGRADED;
+        }
+
+        double value = Double.parseDouble(grade);
+        return value == Math.rint(value) ? WHOLE_GRADES[(int) value] : new Grade(value);
     }
 
     /**
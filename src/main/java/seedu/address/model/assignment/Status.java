@@ -3,6 +3,8 @@ package seedu.address.model.assignment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an assignment's status
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
@@ -13,6 +15,11 @@ public class Status {
 
     public static final String VALIDATION_REGEX = "Y|N|y|n";
 
+    public static final Status SUBMITTED = new Status(State.Y);
+    public static final Status NOT_SUBMITTED = new Status(State.N);
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     /**
      * Status of a submission / grading
      */
@@ -51,14 +58,23 @@ public class Status {
      * Factory method to initialize default status.
      */
     public static Status getDefault() {
-        return new Status(State.N);
+        return NOT_SUBMITTED;
+    }
+
+    /**
+     * Returns the shared {@code Status} for {@code status}, which must be a valid status.
+     */
+    public static Status of(String status) {
+        requireNonNull(status);
+        checkArgument(isValidStatus(status), MESSAGE_CONSTRAINTS);
+        return status.equalsIgnoreCase("y") ? SUBMITTED : NOT_SUBMITTED;
     }
 
     /**
      * Returns true if the given string is a valid status
      */
     public static boolean isValidStatus(String status) {
-        return status.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(status).matches();
     }
 
     /**
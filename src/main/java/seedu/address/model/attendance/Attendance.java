@@ -3,6 +3,8 @@ package seedu.address.model.attendance;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's attendance status in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAttendance(String)}.
@@ -12,6 +14,10 @@ public class Attendance {
 
     // Valid attendance statuses
     public static final String VALIDATION_REGEX = "^(p|a)$";
+    public static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    public static final Attendance PRESENT = new Attendance("p");
+    public static final Attendance ABSENT = new Attendance("a");
 
     public final String value;
     /**
@@ -25,8 +31,17 @@ public class Attendance {
         value = status;
     }
 
+    /**
+     * Returns the shared {@code Attendance} for {@code status}, which must be a valid attendance status.
+     */
+    public static Attendance of(String status) {
+        requireNonNull(status);
+        checkArgument(isValidAttendance(status), MESSAGE_CONSTRAINTS);
+        return status.equals(PRESENT.value) ? PRESENT : ABSENT;
+    }
+
     public static boolean isValidAttendance(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
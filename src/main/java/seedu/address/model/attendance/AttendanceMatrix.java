@@ -0,0 +1,275 @@
+package seedu.address.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.model.student.Student;
+
+/**
+ * The attendance of a group of students, held column by column: one column per date that any of them has a record
+ * on, and one bit per student in each column. Questions about a whole session are answered with bitwise operations
+ * over its column, and each student's totals over all sessions are kept as running counts.
+ * <p>
+ * The model keeps the matrix of each tutorial group up to date as the students' attendance records change, so
+ * reading it never scans the records.
+ */
+public class AttendanceMatrix {
+
+    // Row of each student, matched by identity as students compare equal by value
+    private final Map<Student, Integer> rowsByStudent = new IdentityHashMap<>();
+    // Student in each row, or null if the row is free to be given to the next student added
+    private final List<Student> students = new ArrayList<>();
+    private final BitSet freeRows = new BitSet();
+    // Dates with no records left are dropped, so that every column here has at least one bit set
+    private final TreeMap<LocalDate, Column> columnsByDate = new TreeMap<>();
+    // Number of sessions each row is marked at and present at, kept in step with the columns
+    private int[] markedTotals = new int[0];
+    private int[] presentTotals = new int[0];
+
+    /**
+     * Adds a row, with no records, for {@code student}.
+     */
+    public void addStudent(Student student) {
+        requireNonNull(student);
+        assert !rowsByStudent.containsKey(student) : "Student is already in the matrix";
+        int row = freeRows.nextSetBit(0);
+        if (row < 0) {
+            row = students.size();
+            students.add(student);
+            if (row == markedTotals.length) {
+                markedTotals = Arrays.copyOf(markedTotals, Math.max(8, row * 2));
+                presentTotals = Arrays.copyOf(presentTotals, markedTotals.length);
+            }
+        } else {
+            freeRows.clear(row);
+            students.set(row, student);
+        }
+        rowsByStudent.put(student, row);
+    }
+
+    /**
+     * Removes the row of {@code student}, whose records must all have been cleared.
+     */
+    public void removeStudent(Student student) {
+        requireNonNull(student);
+        Integer row = rowsByStudent.remove(student);
+        assert row != null : "Student is not in the matrix";
+        assert markedTotals[row] == 0 : "Row has records";
+        students.set(row, null);
+        freeRows.set(row);
+    }
+
+    /**
+     * Records {@code attendance} for {@code student} on {@code date}, replacing any attendance recorded before.
+     */
+    public void set(Student student, LocalDate date, Attendance attendance) {
+        requireAllNonNull(student, date, attendance);
+        int row = getRow(student);
+        Column column = columnsByDate.computeIfAbsent(date, unused -> new Column());
+        uncount(row, column);
+        column.marked.set(row);
+        column.present.set(row, attendance.equals(Attendance.PRESENT));
+        count(row, column);
+    }
+
+    /**
+     * Removes the attendance recorded for {@code student} on {@code date}, if any.
+     */
+    public void clear(Student student, LocalDate date) {
+        requireAllNonNull(student, date);
+        int row = getRow(student);
+        Column column = columnsByDate.get(date);
+        if (column == null) {
+            return;
+        }
+        uncount(row, column);
+        column.marked.clear(row);
+        column.present.clear(row);
+        if (column.marked.isEmpty()) {
+            columnsByDate.remove(date);
+        }
+    }
+
+    /**
+     * Returns true if the matrix has no students.
+     */
+    public boolean isEmpty() {
+        return rowsByStudent.isEmpty();
+    }
+
+    /**
+     * Returns the number of students in the matrix.
+     */
+    public int getStudentCount() {
+        return rowsByStudent.size();
+    }
+
+    /**
+     * Returns the dates that any of the students has a record on, in ascending order.
+     */
+    public NavigableSet<LocalDate> getDates() {
+        return Collections.unmodifiableNavigableSet(columnsByDate.navigableKeySet());
+    }
+
+    /**
+     * Returns the dates from {@code from} to {@code to}, both inclusive, that any of the students has a record on.
+     */
+    public NavigableSet<LocalDate> getDates(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return getDates().subSet(from, true, to, true);
+    }
+
+    /**
+     * Returns the number of students recorded present on {@code date}.
+     */
+    public int getPresentCount(LocalDate date) {
+        Column column = getColumn(date);
+        return column == null ? 0 : column.present.cardinality();
+    }
+
+    /**
+     * Returns the number of students recorded absent on {@code date}.
+     */
+    public int getAbsentCount(LocalDate date) {
+        Column column = getColumn(date);
+        return column == null ? 0 : column.marked.cardinality() - column.present.cardinality();
+    }
+
+    /**
+     * Returns the number of students with no record on {@code date}.
+     */
+    public int getUnmarkedCount(LocalDate date) {
+        Column column = getColumn(date);
+        return getStudentCount() - (column == null ? 0 : column.marked.cardinality());
+    }
+
+    /**
+     * Returns the fraction of the students with a record on {@code date} who were present, or an empty result if
+     * none of them has a record on that date.
+     */
+    public OptionalDouble getAttendanceRate(LocalDate date) {
+        Column column = getColumn(date);
+        return column == null
+                ? OptionalDouble.empty()
+                : OptionalDouble.of((double) column.present.cardinality() / column.marked.cardinality());
+    }
+
+    /**
+     * Returns the students recorded absent on {@code date}, in no particular order.
+     */
+    public List<Student> getAbsentStudents(LocalDate date) {
+        Column column = getColumn(date);
+        if (column == null) {
+            return List.of();
+        }
+        BitSet absent = (BitSet) column.marked.clone();
+        absent.andNot(column.present);
+        List<Student> absentStudents = new ArrayList<>(absent.cardinality());
+        absent.stream().forEach(row -> absentStudents.add(students.get(row)));
+        return Collections.unmodifiableList(absentStudents);
+    }
+
+    /**
+     * Returns the attendance of {@code student} on {@code date}, if any.
+     */
+    public Optional<Attendance> getAttendance(Student student, LocalDate date) {
+        int row = getRow(student);
+        Column column = getColumn(date);
+        if (column == null || !column.marked.get(row)) {
+            return Optional.empty();
+        }
+        return Optional.of(column.present.get(row) ? Attendance.PRESENT : Attendance.ABSENT);
+    }
+
+    /**
+     * Returns the number of sessions from {@code from} to {@code to}, both inclusive, that {@code student} has a
+     * record for.
+     */
+    public int getSessionsMarked(Student student, LocalDate from, LocalDate to) {
+        int row = getRow(student);
+        return coversAllDates(from, to) ? markedTotals[row] : countInRange(row, from, to, column -> column.marked);
+    }
+
+    /**
+     * Returns the number of sessions from {@code from} to {@code to}, both inclusive, that {@code student} was
+     * recorded present at.
+     */
+    public int getSessionsPresent(Student student, LocalDate from, LocalDate to) {
+        int row = getRow(student);
+        return coversAllDates(from, to) ? presentTotals[row] : countInRange(row, from, to, column -> column.present);
+    }
+
+    private boolean coversAllDates(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return columnsByDate.isEmpty()
+                || !from.isAfter(columnsByDate.firstKey()) && !to.isBefore(columnsByDate.lastKey());
+    }
+
+    private int countInRange(int row, LocalDate from, LocalDate to, Function<Column, BitSet> bits) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        int count = 0;
+        for (Column column : columnsByDate.subMap(from, true, to, true).values()) {
+            if (bits.apply(column).get(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void count(int row, Column column) {
+        if (column.marked.get(row)) {
+            markedTotals[row]++;
+        }
+        if (column.present.get(row)) {
+            presentTotals[row]++;
+        }
+    }
+
+    private void uncount(int row, Column column) {
+        if (column.marked.get(row)) {
+            markedTotals[row]--;
+        }
+        if (column.present.get(row)) {
+            presentTotals[row]--;
+        }
+    }
+
+    private int getRow(Student student) {
+        requireNonNull(student);
+        Integer row = rowsByStudent.get(student);
+        if (row == null) {
+            throw new IllegalArgumentException("Student is not in the matrix: " + student.getStudentNumber());
+        }
+        return row;
+    }
+
+    private Column getColumn(LocalDate date) {
+        requireNonNull(date);
+        return columnsByDate.get(date);
+    }
+
+    /**
+     * The attendance of every student on one date.
+     */
+    private static class Column {
+        // Bit i is set in marked if the student in row i has a record, and in present if they were present
+        private final BitSet marked = new BitSet();
+        private final BitSet present = new BitSet();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import seedu.address.model.util.ChangeBatch;
 
 /**
  * Represents an attendance record for a single date.
@@ -52,10 +53,12 @@ public class AttendanceRecord implements Observable {
      * Notifies all listeners that the attendance record has been updated.
      */
     public void notifyListeners() {
-        List<InvalidationListener> listenersCopy = new ArrayList<>(listeners);
-        for (InvalidationListener listener : listenersCopy) {
-            listener.invalidated(this);
-        }
+        ChangeBatch.notifyChanged(this, () -> {
+            List<InvalidationListener> listenersCopy = new ArrayList<>(listeners);
+            for (InvalidationListener listener : listenersCopy) {
+                listener.invalidated(this);
+            }
+        });
     }
 
     @Override
@@ -3,11 +3,14 @@ package seedu.address.model.student;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.util.Comparator;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -16,20 +19,33 @@ import seedu.address.model.assignment.AssignmentName;
 import seedu.address.model.assignment.AssignmentQuery;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.ChangeBatch;
 
 /**
  * Represents a Student in teletutor.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class Student {
+public class Student implements Observable {
 
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final TutorialGroup tutorialGroup;
     private final StudentNumber studentNumber;
-    private final ObservableList<Assignment> assignments = FXCollections.observableArrayList();
-    private final ObservableList<AttendanceRecord> attendanceRecords = FXCollections.observableArrayList();
+    private final ObservableList<Assignment> assignments = new BatchedObservableList<>();
+    private final ObservableList<Assignment> unmodifiableAssignments =
+            FXCollections.unmodifiableObservableList(assignments);
+    // Index over assignments, kept in step with it by every method that modifies assignments
+    private final Map<AssignmentName, Assignment> assignmentsByName = new HashMap<>();
+    // Incremented on every change to the assignments or attendance records, so that callers can tell what changed
+    private long revision;
+    // Notified of every change that increments the revision
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+    // Kept sorted by date with at most one record per date, so that lookups can binary search
+    private final ObservableList<AttendanceRecord> attendanceRecords = new BatchedObservableList<>();
+    private final ObservableList<AttendanceRecord> unmodifiableAttendanceRecords =
+            FXCollections.unmodifiableObservableList(attendanceRecords);
 
     /**
      * Every field must be present and not null.
@@ -53,8 +69,10 @@ public class Student {
         this.phone = phone;
         this.tutorialGroup = tutorialGroup;
         this.studentNumber = studentNumber;
-        this.assignments.addAll(assignments);
-        this.attendanceRecords.addAll(attendanceRecords);
+        assignments.forEach(this::addAssignment);
+        // Records are mutable, so they are copied rather than shared with the student they came from
+        attendanceRecords.forEach(record ->
+                addAttendanceRecord(new AttendanceRecord(record.getDate(), record.getAttendance())));
     }
 
     public Name getName() {
@@ -73,8 +91,31 @@ public class Student {
         return studentNumber;
     }
 
+    /**
+     * Returns an unmodifiable view of the assignments, in the order they were added.
+     */
     public ObservableList<Assignment> getAssignments() {
-        return assignments;
+        return unmodifiableAssignments;
+    }
+
+    /**
+     * Returns a counter that changes whenever this student's assignments or attendance records change.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Adds a listener that is notified whenever this student's assignments or attendance records change.
+     */
+    @Override
+    public void addListener(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -130,29 +171,37 @@ public class Student {
      * @throws IllegalArgumentException if the provided status is invalid.
      */
     public void markAttendance(LocalDate date, String status) {
-        Attendance attendance = new Attendance(status);
-        for (AttendanceRecord ar : attendanceRecords) {
-            if (ar.getDate().equals(date)) {
-                ar.setAttendance(attendance);
-                return;
-            }
+        Attendance attendance = Attendance.of(status);
+        int index = indexOfDate(date);
+        markChanged();
+        if (index >= 0) {
+            attendanceRecords.get(index).setAttendance(attendance);
+            return;
         }
         AttendanceRecord record = new AttendanceRecord(date, attendance);
-        attendanceRecords.add(record);
+        attendanceRecords.add(-index - 1, record);
         record.notifyListeners();
     }
 
     //getters
+    /**
+     * Returns an unmodifiable view of the attendance records, in date order.
+     */
     public ObservableList<AttendanceRecord> getAttendanceRecord() {
-        return attendanceRecords;
+        return unmodifiableAttendanceRecords;
+    }
+
+    /**
+     * Returns the attendance recorded on {@code date}, if any.
+     */
+    public Optional<Attendance> getAttendance(LocalDate date) {
+        int index = indexOfDate(date);
+        return index >= 0 ? Optional.of(attendanceRecords.get(index).getAttendance()) : Optional.empty();
     }
 
     public String getAttendanceRecordsString() {
-        List<AttendanceRecord> sortedRecords = attendanceRecords.stream()
-                .sorted(Comparator.comparing(AttendanceRecord::getDate))
-                .collect(Collectors.toList());
         StringBuilder sb = new StringBuilder();
-        for (AttendanceRecord record : sortedRecords) {
+        for (AttendanceRecord record : attendanceRecords) {
             sb.append(record.toString()).append("\n");
         }
         return sb.toString();
@@ -167,13 +216,12 @@ public class Student {
     public boolean addAssignment(Assignment assignment) {
         requireAllNonNull(assignment);
 
-        for (Assignment assignment1 : assignments) {
-            if (assignment1.isSameAssignment(assignment)) {
-                return false;
-            }
+        if (assignmentsByName.putIfAbsent(assignment.getAssignmentName(), assignment) != null) {
+            return false;
         }
 
         assignments.add(assignment);
+        markChanged();
         return true;
     }
 
@@ -185,13 +233,12 @@ public class Student {
      */
     public Assignment deleteAssignment(AssignmentName assignmentName) {
         requireAllNonNull(assignmentName);
-        for (Assignment assignment : assignments) {
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                assignments.remove(assignment);
-                return assignment;
-            }
+        Assignment assignment = assignmentsByName.remove(assignmentName);
+        if (assignment != null) {
+            assignments.remove(assignment);
+            markChanged();
         }
-        return null;
+        return assignment;
     }
 
     /**
@@ -201,12 +248,7 @@ public class Student {
      * @return the matching assignment
      */
     public Assignment getAssignment(AssignmentName assignmentName) {
-        for (Assignment assignment : assignments) {
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                return assignment;
-            }
-        }
-        return null;
+        return assignmentsByName.get(assignmentName);
     }
 
     /**
@@ -217,38 +259,77 @@ public class Student {
      */
     public Assignment editAssignment(AssignmentName assignmentName, AssignmentQuery assignmentQuery) {
         requireAllNonNull(assignmentName);
-        for (int i = 0; i < assignments.size(); i++) {
-            Assignment assignment = assignments.get(i);
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                assignments.set(i, assignment.edit(assignmentQuery));
-                return assignment;
-            }
+        Assignment assignment = assignmentsByName.get(assignmentName);
+        if (assignment == null) {
+            return null;
         }
-        return null;
+        Assignment editedAssignment = assignment.edit(assignmentQuery);
+        assignmentsByName.put(assignmentName, editedAssignment);
+        assignments.set(assignments.indexOf(assignment), editedAssignment);
+        markChanged();
+        return assignment;
     }
 
     /**
-     * Adds the attendance record to the attendance records
+     * Adds the attendance record to the attendance records, replacing any existing record on the same date.
      *
      * @param ar A valid attendance record
      */
     public void addAttendanceRecord(AttendanceRecord ar) {
-        attendanceRecords.add(ar);
+        requireAllNonNull(ar);
+        int index = indexOfDate(ar.getDate());
+        if (index >= 0) {
+            attendanceRecords.set(index, ar);
+        } else {
+            attendanceRecords.add(-index - 1, ar);
+        }
+        markChanged();
     }
 
     /**
-     * Deletes the last attendance record in the list.
+     * Deletes the attendance record on the given date, if any.
      * @param date The date of the attendance record to be deleted.
      */
     public void deleteAttendance(LocalDate date) {
-        Iterator<AttendanceRecord> iterator = attendanceRecords.iterator();
-        while (iterator.hasNext()) {
-            AttendanceRecord record = iterator.next();
-            if (record.getDate().equals(date)) {
-                iterator.remove();
-                record.notifyListeners();
-                return;
+        int index = indexOfDate(date);
+        if (index >= 0) {
+            AttendanceRecord record = attendanceRecords.remove(index);
+            record.notifyListeners();
+            markChanged();
+        }
+    }
+
+    /**
+     * Increments the revision and notifies the listeners that this student has changed.
+     */
+    private void markChanged() {
+        revision++;
+        ChangeBatch.notifyChanged(this, () -> {
+            List<InvalidationListener> listenersCopy = new ArrayList<>(listeners);
+            for (InvalidationListener listener : listenersCopy) {
+                listener.invalidated(this);
+            }
+        });
+    }
+
+    /**
+     * Returns the index of the record on {@code date}, or {@code -(insertion point) - 1} if there is none,
+     * following the convention of {@link java.util.Collections#binarySearch}.
+     */
+    private int indexOfDate(LocalDate date) {
+        int low = 0;
+        int high = attendanceRecords.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = attendanceRecords.get(mid).getDate().compareTo(date);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
             }
         }
+        return -(low + 1);
     }
 }
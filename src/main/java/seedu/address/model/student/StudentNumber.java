@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's student number in teletutor.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentNumber(String)}
@@ -18,6 +20,7 @@ public class StudentNumber {
      * The student number must start with a letter, followed by exactly 7 numbers, and end with a letter.
      */
     public static final String VALIDATION_REGEX = "[A-Za-z][0-9]{7}[A-Za-z]";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -36,7 +39,7 @@ public class StudentNumber {
      * Returns true if a given string is a valid student number.
      */
     public static boolean isValidStudentNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
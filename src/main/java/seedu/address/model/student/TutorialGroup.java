@@ -3,6 +3,10 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.model.util.Interner;
+
 
 
 /**
@@ -17,6 +21,10 @@ public class TutorialGroup {
      * The first character of the tutorial group must be a letter, followed by exactly two numbers.
      */
     public static final String VALIDATION_REGEX = "[A-Za-z][0-9]{2}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // There are at most 26 * 100 tutorial groups, so all of them can be kept
+    private static final Interner<String, TutorialGroup> TUTORIAL_GROUPS = new Interner<>(TutorialGroup::new);
 
     public final String value;
 
@@ -32,13 +40,22 @@ public class TutorialGroup {
         this.value = tutorialGroup.toUpperCase();
     }
 
+    /**
+     * Returns the shared {@code TutorialGroup} for {@code tutorialGroup}, which must be a valid tutorial group.
+     */
+    public static TutorialGroup of(String tutorialGroup) {
+        requireNonNull(tutorialGroup);
+        checkArgument(isValidTutorialGroup(tutorialGroup), MESSAGE_CONSTRAINTS);
+        return TUTORIAL_GROUPS.intern(tutorialGroup.toUpperCase());
+    }
+
 
 
     /**
      * Returns true if a given string is a valid tutorial group.
      */
     public static boolean isValidTutorialGroup(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -58,4 +75,9 @@ public class TutorialGroup {
 
         return value.equals(otherTutorialGroup.value);
     }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
 }
@@ -3,8 +3,10 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,6 +17,9 @@ import seedu.address.model.student.exceptions.StudentNotFoundException;
  * A list of students that enforces uniqueness between its elements and does not allow nulls.
  * A student is considered unique by comparing using {@code Student#isSameStudent(Student)}.
  * As such, adding and updating of students uses {@code Student#isSameStudent(Student)} for equality.
+ * Students are also indexed by their {@code StudentNumber}, so identity lookups do not scan the list, and each
+ * student's position is remembered, so finding a student to edit or remove does not scan it either unless
+ * students before it have been added or removed since.
  *
  * @see Student#isSameStudent(Student)
  */
@@ -24,12 +29,20 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Identity index over {@code internalList}, kept in lockstep with it. */
+    private final Map<StudentNumber, Student> studentsByNumber = new HashMap<>();
+    /**
+     * Position of each student in {@code internalList} when it was last added or found. A student only moves when
+     * students are added or removed before it, so it is searched for outwards from here.
+     */
+    private final Map<StudentNumber, Integer> positionHints = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByNumber.containsKey(toCheck.getStudentNumber());
     }
 
     /**
@@ -42,6 +55,8 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(toAdd);
+        studentsByNumber.put(toAdd.getStudentNumber(), toAdd);
+        positionHints.put(toAdd.getStudentNumber(), internalList.size() - 1);
     }
 
     /**
@@ -54,6 +69,8 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
         internalList.add(index, toAdd);
+        studentsByNumber.put(toAdd.getStudentNumber(), toAdd);
+        positionHints.put(toAdd.getStudentNumber(), index);
     }
 
     /**
@@ -64,8 +81,8 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Student existing = studentsByNumber.get(target.getStudentNumber());
+        if (existing == null || !existing.equals(target)) {
             throw new StudentNotFoundException();
         }
 
@@ -73,7 +90,12 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        int index = indexOf(existing);
         internalList.set(index, editedStudent);
+        studentsByNumber.remove(target.getStudentNumber());
+        positionHints.remove(target.getStudentNumber());
+        studentsByNumber.put(editedStudent.getStudentNumber(), editedStudent);
+        positionHints.put(editedStudent.getStudentNumber(), index);
     }
 
     /**
@@ -83,14 +105,15 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public int remove(Student toRemove) {
         requireNonNull(toRemove);
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).isSameStudent(toRemove)) {
-                internalList.remove(i);
-                return i;
-            }
+        Student existing = studentsByNumber.remove(toRemove.getStudentNumber());
+        if (existing == null) {
+            throw new StudentNotFoundException();
         }
 
-        throw new StudentNotFoundException();
+        int index = indexOf(existing);
+        positionHints.remove(toRemove.getStudentNumber());
+        internalList.remove(index);
+        return index;
     }
 
     /**
@@ -99,6 +122,8 @@ public class UniqueStudentList implements Iterable<Student> {
     public ObservableList<Student> removeAll() {
         ObservableList<Student> studentsToDelete = FXCollections.observableArrayList(internalList);
         internalList.clear();
+        studentsByNumber.clear();
+        positionHints.clear();
         return studentsToDelete;
     }
 
@@ -109,6 +134,10 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        studentsByNumber.clear();
+        studentsByNumber.putAll(replacement.studentsByNumber);
+        positionHints.clear();
+        positionHints.putAll(replacement.positionHints);
     }
 
     /**
@@ -117,11 +146,15 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
-        }
+        Map<StudentNumber, Student> replacementIndex = indexByStudentNumber(students);
 
         internalList.setAll(students);
+        studentsByNumber.clear();
+        studentsByNumber.putAll(replacementIndex);
+        positionHints.clear();
+        for (int i = 0; i < students.size(); i++) {
+            positionHints.put(students.get(i).getStudentNumber(), i);
+        }
     }
 
     /**
@@ -133,7 +166,7 @@ public class UniqueStudentList implements Iterable<Student> {
 
     @Override
     public Iterator<Student> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -161,17 +194,38 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the position of {@code student}, which must be in the list, searching outwards from where it was last
+     * seen. The search takes as many steps as the student has moved since then.
+     */
+    private int indexOf(Student student) {
+        int hint = Math.min(positionHints.getOrDefault(student.getStudentNumber(), 0), internalList.size() - 1);
+        for (int distance = 0; hint - distance >= 0 || hint + distance < internalList.size(); distance++) {
+            int index = hint - distance;
+            if (index >= 0 && internalList.get(index) == student) {
+                positionHints.put(student.getStudentNumber(), index);
+                return index;
+            }
+            index = hint + distance;
+            if (index < internalList.size() && internalList.get(index) == student) {
+                positionHints.put(student.getStudentNumber(), index);
+                return index;
+            }
+        }
+        throw new StudentNotFoundException();
+    }
+
+    /**
+     * Returns {@code students} indexed by student number, validating uniqueness in a single pass.
+     * @throws DuplicateStudentException if {@code students} contains duplicate students.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private static Map<StudentNumber, Student> indexByStudentNumber(List<Student> students) {
+        Map<StudentNumber, Student> index = new HashMap<>();
+        for (Student student : students) {
+            if (index.putIfAbsent(student.getStudentNumber(), student) != null) {
+                throw new DuplicateStudentException();
             }
         }
-        return true;
+        return index;
     }
 
     public boolean isEmpty() {
@@ -0,0 +1,59 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list whose changes during a {@link ChangeBatch} reach its listeners as a single change,
+ * when the batch is complete. Outside a batch, it behaves like {@code FXCollections.observableArrayList()}.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+    private final List<E> elements = new ArrayList<>();
+    private boolean isHeldOpen;
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        holdOpenUntilBatchEnds();
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        holdOpenUntilBatchEnds();
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        holdOpenUntilBatchEnds();
+        return elements.remove(index);
+    }
+
+    /**
+     * Keeps the list's change open for the rest of the batch, if one is open, so that every modification until then
+     * is reported together.
+     */
+    private void holdOpenUntilBatchEnds() {
+        if (isHeldOpen || !ChangeBatch.isOpen()) {
+            return;
+        }
+        isHeldOpen = true;
+        beginChange();
+        ChangeBatch.notifyChanged(this, () -> {
+            isHeldOpen = false;
+            endChange();
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds back change notifications from the model while a batch of changes is applied, and sends them when the batch
+ * is complete. Each changed source notifies its listeners once, however many times it changed during the batch.
+ * <p>
+ * A batch belongs to the thread that opened it. Changes made on other threads are notified as usual.
+ */
+public class ChangeBatch {
+    private static final ThreadLocal<ChangeBatch> currentBatch = new ThreadLocal<>();
+
+    // Sources are matched by identity, as model objects compare equal by value
+    private final Map<Object, Boolean> changedSources = new IdentityHashMap<>();
+    private final List<Runnable> notifications = new ArrayList<>();
+
+    private ChangeBatch() {}
+
+    /**
+     * Runs {@code changes} as one batch. If a batch is already open, {@code changes} simply joins it.
+     * Notifications held back are sent when {@code changes} returns or throws. Each of them is sent even if an
+     * earlier one throws; the first exception thrown is rethrown afterwards, with any later ones suppressed by it.
+     */
+    public static void run(Runnable changes) {
+        requireNonNull(changes);
+        if (isOpen()) {
+            changes.run();
+            return;
+        }
+
+        ChangeBatch batch = new ChangeBatch();
+        currentBatch.set(batch);
+        Throwable failure = null;
+        try {
+            changes.run();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            currentBatch.remove();
+            batch.sendNotifications(failure);
+        }
+    }
+
+    /**
+     * Returns true if a batch is open on the current thread.
+     */
+    public static boolean isOpen() {
+        return currentBatch.get() != null;
+    }
+
+    /**
+     * Sends every notification held back. Exceptions they throw are suppressed by {@code failure}, the exception
+     * that {@code changes} threw, if any; otherwise the first one is rethrown once all notifications are sent.
+     */
+    private void sendNotifications(Throwable failure) {
+        RuntimeException notificationFailure = null;
+        for (Runnable notification : notifications) {
+            try {
+                notification.run();
+            } catch (RuntimeException e) {
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                } else if (notificationFailure == null) {
+                    notificationFailure = e;
+                } else {
+                    notificationFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (notificationFailure != null) {
+            throw notificationFailure;
+        }
+    }
+
+    /**
+     * Sends a notification that {@code source} has changed: right away if no batch is open, or when the batch is
+     * complete otherwise. Within a batch, only the first {@code notification} for each source is kept.
+     */
+    public static void notifyChanged(Object source, Runnable notification) {
+        requireNonNull(source);
+        requireNonNull(notification);
+        ChangeBatch batch = currentBatch.get();
+        if (batch == null) {
+            notification.run();
+        } else if (batch.changedSources.put(source, Boolean.TRUE) == null) {
+            batch.notifications.add(notification);
+        }
+    }
+}
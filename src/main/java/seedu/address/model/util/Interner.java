@@ -0,0 +1,38 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Keeps one shared instance of an immutable value object for each key, so that equal values loaded or parsed many
+ * times take the space of one. Instances are kept for the rest of the session, so keys should come from a small set.
+ */
+public class Interner<K, V> {
+    private final ConcurrentMap<K, V> instances = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends V> factory;
+
+    /**
+     * Creates an {@code Interner} that uses {@code factory} to create the instance for a key it has not seen.
+     */
+    public Interner(Function<? super K, ? extends V> factory) {
+        this.factory = requireNonNull(factory);
+    }
+
+    /**
+     * Returns the shared instance for {@code key}, creating it the first time.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        return instances.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Returns the number of instances kept.
+     */
+    public int size() {
+        return instances.size();
+    }
+}
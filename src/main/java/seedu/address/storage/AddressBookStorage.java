@@ -42,4 +42,18 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures what {@link #saveAddressBook(ReadOnlyAddressBook)} would write for {@code addressBook} as it is now.
+     * Must be called on the thread that modifies {@code addressBook}.
+     * @param addressBook cannot be null.
+     */
+    PendingSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Writes a save captured by {@link #prepareSaveAddressBook(ReadOnlyAddressBook)}. Can be called on any thread,
+     * but saves must be written in the order they were prepared.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void writeAddressBook(PendingSave save) throws IOException;
+
 }
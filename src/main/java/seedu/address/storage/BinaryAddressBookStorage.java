@@ -0,0 +1,402 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.AssignmentName;
+import seedu.address.model.assignment.Deadline;
+import seedu.address.model.assignment.Grade;
+import seedu.address.model.assignment.Status;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * Version 1 of the format is laid out as follows, where counts and indices are unsigned varints and dates are
+ * epoch days stored as zigzag varints:
+ * <pre>
+ * magic "TTAB", version (short)
+ * tutorial groups:  count, then each name (UTF)
+ * assignment names: count, then each name (UTF)
+ * students:         count, then for each student
+ *     name, phone, student number (UTF), tutorial group index
+ *     assignments: count, then for each: name index, deadline, flags (submitted, graded), [grade (double)]
+ *     attendance:  count, first date, gaps to each following date, then one present bit per record
+ * </pre>
+ * Reading a file that is not in this format falls back to {@link JsonStudentAddressBookStorage}, so switching
+ * {@link seedu.address.model.UserPrefs#getAddressBookFormat()} converts the data file on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+    public static final int MAGIC = 0x54544142;
+    public static final short VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %d is newer than supported (%d).";
+    public static final String MESSAGE_CORRUPTED_FILE = "Data file is corrupted: %s";
+
+    private static final int FLAG_SUBMITTED = 1;
+    private static final int FLAG_GRADED = 1 << 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is in this storage's binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.available() >= Integer.BYTES && in.readInt() == MAGIC;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A data file in the json format is imported as it is.
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                return new JsonStudentAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            return Optional.of(readBinaryFile(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the address book in the binary file at {@code filePath}.
+     */
+    static AddressBook readBinaryFile(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return decode(new DataInputStream(in));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        writeDataFile(encode(addressBook), filePath);
+    }
+
+    @Override
+    public PendingSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // Every save rewrites the whole file, which the background saver coalesces when saves pile up.
+        // The encoded file is about as small as any copy of the data, so it doubles as the snapshot.
+        return PendingSave.ofEncodedDataFile(encode(addressBook));
+    }
+
+    @Override
+    public void writeAddressBook(PendingSave save) throws IOException {
+        requireNonNull(save);
+        if (save.getEncodedDataFile() == null) {
+            return;
+        }
+        writeDataFile(save.getEncodedDataFile(), filePath);
+    }
+
+    private static void writeDataFile(byte[] encodedDataFile, Path filePath) throws IOException {
+        FileUtil.writeAtomically(filePath, tempFile -> Files.write(tempFile, encodedDataFile));
+        // A journal left over from the json format no longer applies to this file
+        Files.deleteIfExists(JsonStudentAddressBookStorage.getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns {@code addressBook} encoded in this storage's binary format.
+     */
+    private static byte[] encode(ReadOnlyAddressBook addressBook) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            encode(addressBook, out);
+        } catch (IOException ioe) {
+            throw new AssertionError("Writing to memory cannot fail", ioe);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void encode(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Student> students = addressBook.getStudentList();
+        Map<String, Integer> tutorialGroups = new LinkedHashMap<>();
+        Map<String, Integer> assignmentNames = new LinkedHashMap<>();
+        for (Student student : students) {
+            tutorialGroups.putIfAbsent(student.getTutorialGroup().value, tutorialGroups.size());
+            for (Assignment assignment : student.getAssignments()) {
+                assignmentNames.putIfAbsent(assignment.getAssignmentName().fullName, assignmentNames.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        writeDictionary(out, tutorialGroups);
+        writeDictionary(out, assignmentNames);
+
+        writeVarLong(out, students.size());
+        for (Student student : students) {
+            out.writeUTF(student.getName().fullName);
+            out.writeUTF(student.getPhone().value);
+            out.writeUTF(student.getStudentNumber().value);
+            writeVarLong(out, tutorialGroups.get(student.getTutorialGroup().value));
+
+            List<Assignment> assignments = student.getAssignments();
+            writeVarLong(out, assignments.size());
+            for (Assignment assignment : assignments) {
+                writeVarLong(out, assignmentNames.get(assignment.getAssignmentName().fullName));
+                writeDate(out, assignment.getDeadline().deadline);
+                Optional<Double> grade = assignment.getGrade().grade;
+                out.writeByte((assignment.getSubmissionStatus().isSubmitted() ? FLAG_SUBMITTED : 0)
+                        | (grade.isPresent() ? FLAG_GRADED : 0));
+                if (grade.isPresent()) {
+                    out.writeDouble(grade.get());
+                }
+            }
+
+            // Records are kept sorted by date, so the gaps between them are small and positive
+            List<AttendanceRecord> records = student.getAttendanceRecord();
+            writeVarLong(out, records.size());
+            long previousDay = 0;
+            for (int i = 0; i < records.size(); i++) {
+                long day = records.get(i).getDate().toEpochDay();
+                if (i == 0) {
+                    writeVarLong(out, zigzag(day));
+                } else {
+                    writeVarLong(out, day - previousDay);
+                }
+                previousDay = day;
+            }
+            byte[] presentBits = new byte[(records.size() + 7) / 8];
+            for (int i = 0; i < records.size(); i++) {
+                if (records.get(i).getAttendance().value.equals("p")) {
+                    presentBits[i / 8] |= (byte) (1 << (i % 8));
+                }
+            }
+            out.write(presentBits);
+        }
+    }
+
+    private static AddressBook decode(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, "unrecognised header"));
+        }
+        short version = in.readShort();
+        if (version > VERSION || version < 1) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version, VERSION));
+        }
+
+        List<TutorialGroup> tutorialGroups = new ArrayList<>();
+        for (String value : readDictionary(in)) {
+            requireValid(TutorialGroup.isValidTutorialGroup(value), TutorialGroup.MESSAGE_CONSTRAINTS);
+            tutorialGroups.add(TutorialGroup.of(value));
+        }
+        List<AssignmentName> assignmentNames = new ArrayList<>();
+        for (String value : readDictionary(in)) {
+            requireValid(AssignmentName.isValidName(value), AssignmentName.MESSAGE_CONSTRAINTS);
+            assignmentNames.add(new AssignmentName(value));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        int studentCount = readCount(in);
+        for (int s = 0; s < studentCount; s++) {
+            String name = in.readUTF();
+            requireValid(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+            String phone = in.readUTF();
+            requireValid(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+            String studentNumber = in.readUTF();
+            requireValid(StudentNumber.isValidStudentNumber(studentNumber), StudentNumber.MESSAGE_CONSTRAINTS);
+            TutorialGroup tutorialGroup = tutorialGroups.get(readIndex(in, tutorialGroups.size()));
+
+            Student student = new Student(new Name(name), new Phone(phone), tutorialGroup,
+                    new StudentNumber(studentNumber));
+
+            int assignmentCount = readCount(in);
+            for (int a = 0; a < assignmentCount; a++) {
+                AssignmentName assignmentName = assignmentNames.get(readIndex(in, assignmentNames.size()));
+                String deadline = readDate(in).toString();
+                requireValid(Deadline.isValidDeadline(deadline), Deadline.MESSAGE_CONSTRAINTS);
+                int flags = in.readUnsignedByte();
+                Status status = (flags & FLAG_SUBMITTED) != 0 ? Status.SUBMITTED : Status.NOT_SUBMITTED;
+                String grade = (flags & FLAG_GRADED) != 0 ? Double.toString(in.readDouble()) : "NULL";
+                requireValid(Grade.isValidGrade(grade), Grade.MESSAGE_CONSTRAINTS);
+                Assignment assignment = new Assignment(assignmentName, Deadline.of(deadline), status,
+                        Grade.of(grade));
+                if (!student.addAssignment(assignment)) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE,
+                            "duplicate assignment " + assignmentName));
+                }
+            }
+
+            int recordCount = readCount(in);
+            List<LocalDate> dates = new ArrayList<>();
+            long day = 0;
+            for (int i = 0; i < recordCount; i++) {
+                day = i == 0 ? unzigzag(readVarLong(in)) : day + readVarLong(in);
+                dates.add(toDate(day));
+            }
+            byte[] presentBits = new byte[(recordCount + 7) / 8];
+            in.readFully(presentBits);
+            for (int i = 0; i < recordCount; i++) {
+                boolean isPresent = (presentBits[i / 8] & (1 << (i % 8))) != 0;
+                Attendance attendance = isPresent ? Attendance.PRESENT : Attendance.ABSENT;
+                student.addAttendanceRecord(new AttendanceRecord(dates.get(i), attendance));
+            }
+
+            if (addressBook.hasStudent(student)) {
+                throw new IllegalValueException(JsonSerializableStudentAddressBook.MESSAGE_DUPLICATE_STUDENT);
+            }
+            addressBook.addStudent(student);
+        }
+        return addressBook;
+    }
+
+    private static void writeDictionary(DataOutputStream out, Map<String, Integer> dictionary) throws IOException {
+        writeVarLong(out, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static List<String> readDictionary(DataInputStream in) throws IOException, IllegalValueException {
+        int size = readCount(in);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+
+    private static void writeDate(DataOutputStream out, LocalDate date) throws IOException {
+        writeVarLong(out, zigzag(date.toEpochDay()));
+    }
+
+    private static LocalDate readDate(DataInputStream in) throws IOException, IllegalValueException {
+        return toDate(unzigzag(readVarLong(in)));
+    }
+
+    private static LocalDate toDate(long epochDay) throws IllegalValueException {
+        try {
+            return LocalDate.ofEpochDay(epochDay);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, "date out of range"));
+        }
+    }
+
+    private static int readCount(DataInputStream in) throws IOException, IllegalValueException {
+        long count = readVarLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, "count out of range"));
+        }
+        return (int) count;
+    }
+
+    private static int readIndex(DataInputStream in, int size) throws IOException, IllegalValueException {
+        long index = readVarLong(in);
+        if (index < 0 || index >= size) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, "dictionary index out of range"));
+        }
+        return (int) index;
+    }
+
+    private static void requireValid(boolean isValid, String message) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(message);
+        }
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as it needs, seven bits at a time.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException, IllegalValueException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_FILE, "number too long"));
+    }
+
+    /**
+     * Maps signed values onto unsigned ones so that numbers close to zero stay short as varints.
+     */
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Keeps the command history in a text file, one command per line, oldest first.
+ * New commands are appended to the file in the background. Once the file holds twice as many commands as the
+ * history keeps, it is rewritten with only the ones kept.
+ */
+public class CommandHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistoryStorage.class);
+
+    private final Path filePath;
+    private final int capacity;
+    private final ExecutorService writeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-history-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int lineCount; // only used by the write executor once the history has been read
+
+    /**
+     * Creates a {@code CommandHistoryStorage} for a history of {@code capacity} commands kept at {@code filePath}.
+     */
+    public CommandHistoryStorage(Path filePath, int capacity) {
+        this.filePath = filePath;
+        this.capacity = capacity;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the most recent commands in the file, up to the capacity, oldest first.
+     * Returns an empty list if the file does not exist or cannot be read.
+     */
+    public List<String> readCommands() {
+        if (!FileUtil.isFileExists(filePath)) {
+            return List.of();
+        }
+        try {
+            List<String> lines = Files.readAllLines(filePath);
+            lineCount = lines.size();
+            return new ArrayList<>(lines.subList(Math.max(0, lines.size() - capacity), lines.size()));
+        } catch (IOException ioe) {
+            logger.warning("Failed to read command history from " + filePath + ": " + StringUtil.getDetails(ioe));
+            return List.of();
+        }
+    }
+
+    /**
+     * Appends {@code command} to the file in the background.
+     */
+    public void appendInBackground(String command) {
+        // A line break would split the command into two when it is read back
+        String line = command.replace('\n', ' ').replace('\r', ' ');
+        writeExecutor.execute(() -> append(line));
+    }
+
+    /**
+     * Waits for the commands passed to {@link #appendInBackground(String)} so far to be written.
+     */
+    public void flush() {
+        try {
+            writeExecutor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail", ee);
+        }
+    }
+
+    private void append(String line) {
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.appendToFile(filePath, line + System.lineSeparator());
+            if (++lineCount > 2 * capacity) {
+                compact();
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to save command history to " + filePath + ": " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private void compact() throws IOException {
+        List<String> lines = Files.readAllLines(filePath);
+        List<String> kept = lines.subList(Math.max(0, lines.size() - capacity), lines.size());
+        FileUtil.writeToFile(filePath, String.join(System.lineSeparator(), kept) + System.lineSeparator());
+        lineCount = kept.size();
+    }
+}
@@ -72,7 +72,7 @@ public class JsonAdaptedAssignment {
         if (!Deadline.isValidDeadline(deadline)) {
             throw new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS);
         }
-        final Deadline modelDeadline = new Deadline(deadline);
+        final Deadline modelDeadline = Deadline.of(deadline);
 
         if (submissionStatus == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Status.class.getSimpleName()));
@@ -81,7 +81,7 @@ public class JsonAdaptedAssignment {
         if (!Status.isValidStatus(submissionStatus)) {
             throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
         }
-        final Status modelSubmissionStatus = new Status(submissionStatus);
+        final Status modelSubmissionStatus = Status.of(submissionStatus);
 
         if (grade == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Grade.class.getSimpleName()));
@@ -91,7 +91,7 @@ public class JsonAdaptedAssignment {
             throw new IllegalValueException(Grade.MESSAGE_CONSTRAINTS);
         }
 
-        final Grade modelGrade = new Grade(grade);
+        final Grade modelGrade = Grade.of(grade);
 
         return new Assignment(modelAssignmentName, modelDeadline, modelSubmissionStatus, modelGrade);
 
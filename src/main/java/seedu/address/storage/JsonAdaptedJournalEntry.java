@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+
+/**
+ * Jackson-friendly version of a single change to the address book, as recorded in the journal.
+ * A {@code put} entry places a student at an index, replacing any student with the same student number.
+ * An {@code update} entry replaces the student with the same student number where it stands.
+ * A {@code remove} entry removes the student with the given student number.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is malformed: %s";
+
+    private static final String OPERATION_PUT = "put";
+    private static final String OPERATION_UPDATE = "update";
+    private static final String OPERATION_REMOVE = "remove";
+
+    private final String operation;
+    private final String studentNumber;
+    private final Integer index;
+    private final JsonAdaptedStudent student;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation,
+                                   @JsonProperty("studentNumber") String studentNumber,
+                                   @JsonProperty("index") Integer index,
+                                   @JsonProperty("student") JsonAdaptedStudent student) {
+        this.operation = operation;
+        this.studentNumber = studentNumber;
+        this.index = index;
+        this.student = student;
+    }
+
+    /**
+     * Returns an entry that places {@code student} at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry put(int index, Student student) {
+        return new JsonAdaptedJournalEntry(OPERATION_PUT, student.getStudentNumber().value, index,
+                new JsonAdaptedStudent(student));
+    }
+
+    /**
+     * Returns an entry that replaces the student with the same student number as {@code student}, keeping its place.
+     */
+    public static JsonAdaptedJournalEntry update(Student student) {
+        return new JsonAdaptedJournalEntry(OPERATION_UPDATE, student.getStudentNumber().value, null,
+                new JsonAdaptedStudent(student));
+    }
+
+    /**
+     * Returns an entry that removes the student with {@code studentNumber}.
+     */
+    public static JsonAdaptedJournalEntry remove(StudentNumber studentNumber) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, studentNumber.value, null, null);
+    }
+
+    /**
+     * Applies this change to {@code students}.
+     *
+     * @throws IllegalValueException if this entry is malformed or holds invalid student data.
+     */
+    public void applyTo(List<Student> students) throws IllegalValueException {
+        if (studentNumber == null || !StudentNumber.isValidStudentNumber(studentNumber)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "invalid student number"));
+        }
+        StudentNumber target = new StudentNumber(studentNumber);
+        if (OPERATION_UPDATE.equals(operation)) {
+            replaceInPlace(students, target);
+            return;
+        }
+        students.removeIf(s -> s.getStudentNumber().equals(target));
+
+        if (OPERATION_REMOVE.equals(operation)) {
+            return;
+        }
+        if (!OPERATION_PUT.equals(operation) || index == null || index < 0 || student == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, operation));
+        }
+        Student modelStudent = toModelStudent(target);
+        students.add(Math.min(index, students.size()), modelStudent);
+    }
+
+    private void replaceInPlace(List<Student> students, StudentNumber target) throws IllegalValueException {
+        if (student == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, operation));
+        }
+        Student modelStudent = toModelStudent(target);
+        for (int i = 0; i < students.size(); i++) {
+            if (students.get(i).getStudentNumber().equals(target)) {
+                students.set(i, modelStudent);
+                return;
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "unknown student number"));
+    }
+
+    private Student toModelStudent(StudentNumber target) throws IllegalValueException {
+        Student modelStudent = student.toModelType();
+        if (!modelStudent.getStudentNumber().equals(target)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, "mismatched student number"));
+        }
+        return modelStudent;
+    }
+}
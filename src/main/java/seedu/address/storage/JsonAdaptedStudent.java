@@ -103,7 +103,7 @@ public class JsonAdaptedStudent {
         if (!TutorialGroup.isValidTutorialGroup(tutorialGroup)) {
             throw new IllegalValueException(TutorialGroup.MESSAGE_CONSTRAINTS);
         }
-        final TutorialGroup modelTutorialGroup = new TutorialGroup(tutorialGroup);
+        final TutorialGroup modelTutorialGroup = TutorialGroup.of(tutorialGroup);
 
         if (studentNumber == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
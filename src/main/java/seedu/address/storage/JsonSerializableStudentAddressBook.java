@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -15,6 +16,9 @@ import seedu.address.model.student.Student;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * <p>
+ * It also carries the id that a journal must name to be replayed on top of it, so that a journal left over from
+ * an older data file is never applied to a newer one. See {@link JsonStudentAddressBookStorage}.
  */
 
 @JsonRootName(value = "addressbook")
@@ -22,22 +26,34 @@ public class JsonSerializableStudentAddressBook {
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
 
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
+    private final String journalId;
 
     /**
-     * Constructs a {@code JsonSerializableStudentAddressBook} with the given students.
+     * Constructs a {@code JsonSerializableStudentAddressBook} with the given students and journal id.
+     * Data files written before journal ids were introduced have none.
      */
     @JsonCreator
-    public JsonSerializableStudentAddressBook(@JsonProperty("students") List<JsonAdaptedStudent> students) {
+    public JsonSerializableStudentAddressBook(@JsonProperty("students") List<JsonAdaptedStudent> students,
+            @JsonProperty("journalId") String journalId) {
         this.students.addAll(students);
+        this.journalId = journalId;
     }
 
     /**
-     * Converts a given {@code ReadOnlyStudentAddressBook} into this class for Jackson use.
+     * Converts a given {@code ReadOnlyStudentAddressBook} into this class for Jackson use, with a new journal id.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableStudentAddressBook}.
      */
     public JsonSerializableStudentAddressBook(ReadOnlyAddressBook source) {
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
+        journalId = UUID.randomUUID().toString();
+    }
+
+    /**
+     * Returns the id that the journal accompanying this data file must name, or null if there is none.
+     */
+    public String getJournalId() {
+        return journalId;
     }
 
     /**
@@ -2,23 +2,71 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * Saves to {@link #getAddressBookFilePath()} only append the students that changed since the previous save
+ * to a journal file next to it, as one line of {@link JsonAdaptedJournalEntry} per save. Once the journal grows past
+ * {@link #COMPACTION_THRESHOLD} entries, it is folded back into the data file. Reads replay the journal on top
+ * of the data file.
+ * <p>
+ * The data file is replaced in one step and only then is the journal deleted. The journal starts with a header
+ * naming the journal id of the data file it was written against, so a journal that outlives its data file,
+ * such as when a save is interrupted between those two steps, is ignored rather than replayed twice.
+ * <p>
+ * A save is split into {@link #prepareSaveAddressBook}, which captures the changes on the thread that modifies
+ * the address book, and {@link #writeAddressBook}, which does the file I/O and may run on any thread.
+ * The first save of a student list compares it with what was last read; later saves of the same list take the
+ * changes gathered from its change events, so their cost depends on how many students changed rather than on
+ * how many there are.
  */
 public class JsonStudentAddressBookStorage implements AddressBookStorage {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int COMPACTION_THRESHOLD = 256;
+
+    private static final String STUDENTS_FIELD = "students";
+    private static final String JOURNAL_ID_FIELD = "journalId";
+
     private static final Logger logger = LogsCenter.getLogger(JsonStudentAddressBookStorage.class);
     private Path filePath;
+
+    // What was last read from filePath, or null if the next save of a list not yet followed must rewrite the data
+    // file. Only used by the thread that modifies the address book, like the fields below.
+    private Map<StudentNumber, SavedStudent> savedStudents;
+    // The changes to the student list last prepared for saving since then, or null if no list is followed
+    private StudentListChanges studentListChanges;
+    private int journalEntryCount;
+
+    // Set when a write fails, possibly on another thread, so that the next save rewrites the data file
+    private volatile boolean isFullWriteNeeded;
+
+    // The journal id of the data file last read from or written to filePath
+    private volatile String journalId;
+
     public JsonStudentAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -26,6 +74,12 @@ public class JsonStudentAddressBookStorage implements AddressBookStorage {
         return filePath;
     }
 
+    /**
+     * Returns the path of the journal that accompanies the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
@@ -41,17 +95,112 @@ public class JsonStudentAddressBookStorage implements AddressBookStorage {
 
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
-        Optional<JsonSerializableStudentAddressBook> jsonAddressBook =
-                JsonUtil.readJsonFile(filePath, JsonSerializableStudentAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        try {
+            if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+                // Exported back to json by the next save, which rewrites the data file in full
+                if (filePath.equals(this.filePath)) {
+                    stopFollowingChanges();
+                    savedStudents = null;
+                }
+                return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
+
+        AddressBook addressBook = new AddressBook();
+        Map<String, String> otherFields = new HashMap<>();
+        Path journalFilePath = getJournalFilePath(filePath);
+        int entryCount;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            // Students are converted as they are parsed, so the file is never held in memory as a whole
+            boolean isDataFilePresent = JsonUtil.readJsonArrayField(filePath, STUDENTS_FIELD,
+                    JsonAdaptedStudent.class, jsonAdaptedStudent -> {
+                        Student student = jsonAdaptedStudent.toModelType();
+                        if (addressBook.hasStudent(student)) {
+                            throw new IllegalValueException(
+                                    JsonSerializableStudentAddressBook.MESSAGE_DUPLICATE_STUDENT);
+                        }
+                        addressBook.addStudent(student);
+                    }, otherFields);
+            if (!isDataFilePresent && !FileUtil.isFileExists(journalFilePath)) {
+                return Optional.empty();
+            }
+
+            List<Student> students = new ArrayList<>(addressBook.getStudentList());
+            entryCount = replayJournal(journalFilePath, otherFields.get(JOURNAL_ID_FIELD), students);
+            addressBook.setStudents(students);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        if (filePath.equals(this.filePath)) {
+            // A negative count means the journal has to be discarded, which the next save does.
+            // A data file from before journal ids were introduced is also rewritten to get one.
+            journalId = otherFields.get(JOURNAL_ID_FIELD);
+            stopFollowingChanges();
+            savedStudents = entryCount < 0 || journalId == null ? null : snapshotOf(addressBook);
+            journalEntryCount = Math.max(entryCount, 0);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the entries in the journal at {@code journalFilePath}, if any, to {@code students}.
+     * Nothing is applied unless the journal names {@code journalId}, the journal id of the data file read.
+     * Stops at the first line that cannot be parsed, which is what a save interrupted midway leaves behind.
+     *
+     * @return the number of entries applied, or -1 if the journal ended in an unreadable line or does not belong
+     *     to the data file.
+     */
+    private static int replayJournal(Path journalFilePath, String journalId, List<Student> students)
+            throws DataLoadingException, IllegalValueException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        // Journals written before journal ids were introduced have no header, like their data files
+        String journalIdOfJournal = null;
+        if (!lines.isEmpty() && lines.get(0).startsWith("{")) {
+            try {
+                journalIdOfJournal = JsonUtil.fromJsonString(lines.get(0), JournalHeader.class).journalId;
+            } catch (IOException ioe) {
+                logger.warning("Ignoring journal " + journalFilePath + " with an unreadable header: " + lines.get(0));
+                return -1;
+            }
+            lines = lines.subList(1, lines.size());
+        }
+        if (!Objects.equals(journalIdOfJournal, journalId)) {
+            // The data file was replaced after this journal was written, so its entries are already in it
+            logger.info("Ignoring journal " + journalFilePath + " left over from an earlier data file");
+            return -1;
+        }
+
+        int entryCount = 0;
+        for (String line : lines) {
+            JsonAdaptedJournalEntry[] entries;
+            try {
+                entries = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry[].class);
+            } catch (IOException ioe) {
+                logger.warning("Ignoring unreadable journal entries in " + journalFilePath + " from: " + line);
+                return -1;
+            }
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(students);
+            }
+            entryCount += entries.length;
+        }
+        return entryCount;
     }
 
     /**
@@ -66,13 +215,161 @@ public class JsonStudentAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to this storage's own file path are journalled; other paths are written out in full.
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudentAddressBook(addressBook), filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeDataFile(new JsonSerializableStudentAddressBook(addressBook), filePath);
+            return;
+        }
+        writeAddressBook(prepareSaveAddressBook(addressBook));
+    }
+
+    @Override
+    public PendingSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        ObservableList<Student> students = addressBook.getStudentList();
+        List<JsonAdaptedJournalEntry> entries;
+        if (studentListChanges != null && studentListChanges.isFollowing(students)) {
+            entries = studentListChanges.take();
+        } else {
+            // Compared in full once, then followed through its change events
+            entries = savedStudents == null ? null : diff(students);
+            stopFollowingChanges();
+            savedStudents = null;
+            studentListChanges = new StudentListChanges(students);
+        }
+
+        if (entries == null || isFullWriteNeeded || journalEntryCount + entries.size() > COMPACTION_THRESHOLD) {
+            isFullWriteNeeded = false;
+            journalEntryCount = 0;
+            return PendingSave.ofSnapshot(new JsonSerializableStudentAddressBook(addressBook));
+        }
+        journalEntryCount += entries.size();
+        return PendingSave.ofJournalBatch(entries);
+    }
+
+    private void stopFollowingChanges() {
+        if (studentListChanges != null) {
+            studentListChanges.dispose();
+            studentListChanges = null;
+        }
+    }
+
+    @Override
+    public void writeAddressBook(PendingSave save) throws IOException {
+        requireNonNull(save);
+        try {
+            if (save.getSnapshot() != null) {
+                writeDataFile(save.getSnapshot(), filePath);
+                journalId = save.getSnapshot().getJournalId();
+            } else if (isFullWriteNeeded) {
+                // An earlier write failed, so these entries may not apply to what is on disk
+                logger.info("Skipping journal entries until the data file at " + filePath + " is rewritten");
+                return;
+            }
+            if (save.getJournalBatches().isEmpty()) {
+                return;
+            }
+
+            // One line per batch, so that a save interrupted midway is discarded as a whole on the next read
+            Path journalFilePath = getJournalFilePath(filePath);
+            StringBuilder lines = new StringBuilder();
+            if (!FileUtil.isFileExists(journalFilePath)) {
+                lines.append(JsonUtil.toCompactJsonString(new JournalHeader(journalId))).append(System.lineSeparator());
+            }
+            for (List<JsonAdaptedJournalEntry> batch : save.getJournalBatches()) {
+                lines.append(JsonUtil.toCompactJsonString(batch)).append(System.lineSeparator());
+            }
+            FileUtil.appendToFile(journalFilePath, lines.toString());
+        } catch (IOException ioe) {
+            // The files may now be missing part of this save, so fall back to a full write next time
+            isFullWriteNeeded = true;
+            throw ioe;
+        }
+    }
+
+    private static void writeDataFile(JsonSerializableStudentAddressBook snapshot, Path filePath)
+            throws IOException {
+        FileUtil.writeAtomically(filePath, tempFile -> JsonUtil.saveJsonFile(snapshot, tempFile));
+        // Should this fail, the journal no longer matches the journal id of the data file and is ignored
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the journal entries that turn the student list last read into {@code students}:
+     * removals first, then the new or changed students in ascending order of index.
+     * Returns null if the students that did not change are no longer in their saved relative order,
+     * as that cannot be expressed as entries and needs a full write instead.
+     */
+    private List<JsonAdaptedJournalEntry> diff(List<Student> students) {
+        List<JsonAdaptedJournalEntry> removals = new ArrayList<>();
+        List<JsonAdaptedJournalEntry> puts = new ArrayList<>();
+        Map<StudentNumber, SavedStudent> unmatched = new HashMap<>(savedStudents);
+        int lastUnchangedIndex = -1;
+
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            SavedStudent saved = unmatched.remove(student.getStudentNumber());
+            if (saved == null || !saved.isSavedFormOf(student)) {
+                puts.add(JsonAdaptedJournalEntry.put(i, student));
+                continue;
+            }
+            if (saved.index < lastUnchangedIndex) {
+                return null;
+            }
+            lastUnchangedIndex = saved.index;
+        }
+
+        unmatched.keySet().forEach(studentNumber -> removals.add(JsonAdaptedJournalEntry.remove(studentNumber)));
+        removals.addAll(puts);
+        return removals;
+    }
+
+    private static Map<StudentNumber, SavedStudent> snapshotOf(ReadOnlyAddressBook addressBook) {
+        List<Student> students = addressBook.getStudentList();
+        Map<StudentNumber, SavedStudent> snapshot = new HashMap<>();
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            snapshot.put(student.getStudentNumber(), new SavedStudent(student, student.getRevision(), i));
+        }
+        return snapshot;
+    }
+
+    /**
+     * The state of a student as of the last save.
+     */
+    private static class SavedStudent {
+        private final Student student;
+        private final long revision;
+        private final int index;
+
+        SavedStudent(Student student, long revision, int index) {
+            this.student = student;
+            this.revision = revision;
+            this.index = index;
+        }
+
+        boolean isSavedFormOf(Student current) {
+            return student == current && revision == current.getRevision();
+        }
+    }
+
+    /**
+     * The first line of a journal, naming the journal id of the data file that the journal applies to.
+     */
+    private static class JournalHeader {
+        private final String journalId;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty(JOURNAL_ID_FIELD) String journalId) {
+            this.journalId = journalId;
+        }
     }
 
 }
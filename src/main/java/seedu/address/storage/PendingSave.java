@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A save of the address book that has been captured but not yet written.
+ * It holds only Jackson-friendly copies of the data or the data file already encoded, so it can be written from
+ * any thread while the model carries on changing.
+ */
+public class PendingSave {
+    private static final PendingSave EMPTY = new PendingSave(null, null, List.of());
+
+    private final JsonSerializableStudentAddressBook snapshot;
+    private final byte[] encodedDataFile;
+    private final List<List<JsonAdaptedJournalEntry>> journalBatches;
+
+    private PendingSave(JsonSerializableStudentAddressBook snapshot, byte[] encodedDataFile,
+            List<List<JsonAdaptedJournalEntry>> batches) {
+        this.snapshot = snapshot;
+        this.encodedDataFile = encodedDataFile;
+        this.journalBatches = Collections.unmodifiableList(batches);
+    }
+
+    /**
+     * Returns a save that writes nothing.
+     */
+    public static PendingSave empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a save that rewrites the data file with {@code snapshot}.
+     */
+    static PendingSave ofSnapshot(JsonSerializableStudentAddressBook snapshot) {
+        requireNonNull(snapshot);
+        return new PendingSave(snapshot, null, List.of());
+    }
+
+    /**
+     * Returns a save that replaces the data file with {@code encodedDataFile}, which must not be modified afterwards.
+     */
+    static PendingSave ofEncodedDataFile(byte[] encodedDataFile) {
+        requireNonNull(encodedDataFile);
+        return new PendingSave(null, encodedDataFile, List.of());
+    }
+
+    /**
+     * Returns a save that appends {@code entries} to the journal as one batch.
+     */
+    static PendingSave ofJournalBatch(List<JsonAdaptedJournalEntry> entries) {
+        requireNonNull(entries);
+        return entries.isEmpty() ? EMPTY : new PendingSave(null, null, List.of(List.copyOf(entries)));
+    }
+
+    public boolean isEmpty() {
+        return !isFullWrite() && journalBatches.isEmpty();
+    }
+
+    /**
+     * Returns a single save with the same effect as writing this save and then {@code later}.
+     */
+    public PendingSave followedBy(PendingSave later) {
+        requireNonNull(later);
+        if (later.isFullWrite() || isEmpty()) {
+            // A full rewrite makes everything written before it redundant
+            return later;
+        }
+        List<List<JsonAdaptedJournalEntry>> batches = new ArrayList<>(journalBatches);
+        batches.addAll(later.journalBatches);
+        return new PendingSave(snapshot, encodedDataFile, batches);
+    }
+
+    private boolean isFullWrite() {
+        return snapshot != null || encodedDataFile != null;
+    }
+
+    /**
+     * Returns the address book to write to the data file, or null if the data file is left as it is.
+     */
+    JsonSerializableStudentAddressBook getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the contents to replace the data file with as they are, or null if this save is not in binary form.
+     */
+    byte[] getEncodedDataFile() {
+        return encodedDataFile;
+    }
+
+    /**
+     * Returns the batches of entries to append to the journal, one line per batch, after the data file is written.
+     */
+    List<List<JsonAdaptedJournalEntry>> getJournalBatches() {
+        return journalBatches;
+    }
+}
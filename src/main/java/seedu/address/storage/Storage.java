@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,28 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} on a background thread and returns without waiting for it.
+     * The address book is captured before this returns. Saves requested while an earlier one is still waiting
+     * to be written are combined into one write.
+     * @param addressBook cannot be null.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Writes {@code content} to {@code filePath} on the background thread that saves the address book, after the
+     * saves requested before it, and returns without waiting for it. A failed write is only logged.
+     */
+    void writeFileInBackground(Path filePath, String content);
+
+    /**
+     * Sets the handler that is told about background saves that failed. It is called on the background thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Blocks until every background save requested so far has been written or has failed.
+     */
+    void flushAddressBook();
+
 }
@@ -1,12 +1,20 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -20,6 +28,14 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private PendingSave pendingSave; // guarded by this
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> { };
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -75,4 +91,78 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.prepareSaveAddressBook(addressBook);
+    }
+
+    @Override
+    public void writeAddressBook(PendingSave save) throws IOException {
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.writeAddressBook(save);
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+        PendingSave save = prepareSaveAddressBook(addressBook);
+        if (save.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            if (pendingSave != null) {
+                // The write already scheduled has not started, so it picks this save up too
+                pendingSave = pendingSave.followedBy(save);
+                return;
+            }
+            pendingSave = save;
+        }
+        saveExecutor.execute(this::writePendingSave);
+    }
+
+    private void writePendingSave() {
+        PendingSave save;
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+
+        try {
+            writeAddressBook(save);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data file in the background: " + StringUtil.getDetails(ioe));
+            saveFailureHandler.accept(ioe);
+        }
+    }
+
+    @Override
+    public void writeFileInBackground(Path filePath, String content) {
+        requireAllNonNull(filePath, content);
+        saveExecutor.execute(() -> {
+            try {
+                FileUtil.createIfMissing(filePath);
+                FileUtil.writeToFile(filePath, content);
+            } catch (IOException ioe) {
+                logger.warning("Failed to write " + filePath + " in the background: " + StringUtil.getDetails(ioe));
+            }
+        });
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flushAddressBook() {
+        try {
+            // Writes run one at a time in order, so this finishes after every write scheduled before it
+            saveExecutor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail", ee);
+        }
+    }
+
 }
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
+
+/**
+ * The changes made to an observable student list since they were last taken, gathered from the change events of
+ * the list and of its students. Taking them costs time in proportion to the number of students that changed,
+ * however many students the list holds.
+ * <p>
+ * The list and the students only hold weak references to the listeners, so a storage that is no longer used does
+ * not stay in memory for as long as the model does.
+ */
+class StudentListChanges implements ListChangeListener<Student>, InvalidationListener {
+
+    private final ObservableList<Student> students;
+    // Student numbers of the students removed since the changes were last taken
+    private final Set<StudentNumber> removedStudents = new LinkedHashSet<>();
+    // Students added since the changes were last taken, with their current index in the list
+    private final Map<Student, Integer> indicesOfAddedStudents = new IdentityHashMap<>();
+    // Students that were already in the list and have changed in place since the changes were last taken
+    private final Set<Student> updatedStudents = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Set if the list was reordered, which cannot be expressed as journal entries
+    private boolean isReordered;
+
+    private final ListChangeListener<Student> weakListChangeListener = new WeakListChangeListener<>(this);
+    private final InvalidationListener weakInvalidationListener = new WeakInvalidationListener(this);
+
+    /**
+     * Starts following the changes to {@code students}. The students already in the list count as unchanged.
+     */
+    StudentListChanges(ObservableList<Student> students) {
+        requireNonNull(students);
+        this.students = students;
+        students.forEach(student -> student.addListener(weakInvalidationListener));
+        students.addListener(weakListChangeListener);
+    }
+
+    /**
+     * Returns true if these are the changes to {@code students}.
+     */
+    boolean isFollowing(List<Student> students) {
+        return this.students == students;
+    }
+
+    /**
+     * Returns the journal entries that bring the list as it was when the changes were last taken up to date:
+     * removals first, then the added students in ascending order of index, then the students changed in place.
+     * Returns null if the list was reordered, which needs a full write instead.
+     * Either way, the changes start over from the current state of the list.
+     */
+    List<JsonAdaptedJournalEntry> take() {
+        List<JsonAdaptedJournalEntry> entries = null;
+        if (!isReordered) {
+            entries = new ArrayList<>(removedStudents.size() + indicesOfAddedStudents.size()
+                    + updatedStudents.size());
+            for (StudentNumber studentNumber : removedStudents) {
+                entries.add(JsonAdaptedJournalEntry.remove(studentNumber));
+            }
+            List<Map.Entry<Student, Integer>> addedStudents = new ArrayList<>(indicesOfAddedStudents.entrySet());
+            addedStudents.sort(Map.Entry.comparingByValue());
+            for (Map.Entry<Student, Integer> addedStudent : addedStudents) {
+                entries.add(JsonAdaptedJournalEntry.put(addedStudent.getValue(), addedStudent.getKey()));
+            }
+            for (Student student : updatedStudents) {
+                entries.add(JsonAdaptedJournalEntry.update(student));
+            }
+        }
+        removedStudents.clear();
+        indicesOfAddedStudents.clear();
+        updatedStudents.clear();
+        isReordered = false;
+        return entries;
+    }
+
+    /**
+     * Stops following the list and its students.
+     */
+    void dispose() {
+        students.removeListener(weakListChangeListener);
+        students.forEach(student -> student.removeListener(weakInvalidationListener));
+    }
+
+    @Override
+    public void onChanged(Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                isReordered = true;
+                continue;
+            }
+            for (Student removedStudent : change.getRemoved()) {
+                removedStudent.removeListener(weakInvalidationListener);
+                updatedStudents.remove(removedStudent);
+                // A student added and removed again between two saves was never saved
+                if (indicesOfAddedStudents.remove(removedStudent) == null) {
+                    removedStudents.add(removedStudent.getStudentNumber());
+                }
+            }
+
+            // Added students after this change have moved
+            int from = change.getFrom();
+            int shift = change.getAddedSize() - change.getRemovedSize();
+            if (shift != 0) {
+                indicesOfAddedStudents.replaceAll((student, index) -> index >= from ? index + shift : index);
+            }
+
+            List<? extends Student> addedStudents = change.getAddedSubList();
+            for (int i = 0; i < addedStudents.size(); i++) {
+                Student addedStudent = addedStudents.get(i);
+                addedStudent.addListener(weakInvalidationListener);
+                updatedStudents.remove(addedStudent);
+                indicesOfAddedStudents.put(addedStudent, from + i);
+            }
+        }
+    }
+
+    @Override
+    public void invalidated(Observable observable) {
+        Student student = (Student) observable;
+        if (!indicesOfAddedStudents.containsKey(student)) {
+            updatedStudents.add(student);
+        }
+    }
+}
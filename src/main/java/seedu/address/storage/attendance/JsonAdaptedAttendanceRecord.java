@@ -1,12 +1,12 @@
 package seedu.address.storage.attendance;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceRecord;
 
@@ -47,12 +47,8 @@ public class JsonAdaptedAttendanceRecord {
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
         }
-        try {
-            LocalDate.parse(date);
-        } catch (DateTimeParseException e) {
-            throw new IllegalValueException("Invalid date format!");
-        }
-        final LocalDate modelDate = LocalDate.parse(date);
+        final LocalDate modelDate = DateUtil.parseIsoDate(date)
+                .orElseThrow(() -> new IllegalValueException("Invalid date format!"));
 
         if (attendance == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "attendance"));
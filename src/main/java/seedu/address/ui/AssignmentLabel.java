@@ -0,0 +1,67 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import javafx.scene.control.Label;
+import seedu.address.model.assignment.Assignment;
+
+/**
+ * A label on a {@code StudentCard} that shows an {@code Assignment}, coloured by its state.
+ * The colour is kept until the label shows another assignment or the day changes.
+ */
+public class AssignmentLabel extends Label {
+
+    private static final String GRADED = "-fx-background-color: #029e1e";
+    private static final String SUBMITTED = "-fx-background-color: #c7a900";
+    private static final String PENDING = "-fx-background-color: #9e1402";
+    private static final String LATE = "-fx-background-color: #101010";
+
+    private Assignment assignment;
+    private LocalDate styledOn;
+
+    /**
+     * Creates an {@code AssignmentLabel} that shows {@code assignment}.
+     */
+    public AssignmentLabel(Assignment assignment) {
+        show(assignment);
+    }
+
+    public Assignment getAssignment() {
+        return assignment;
+    }
+
+    /**
+     * Shows {@code assignment} on this label, as it is today.
+     */
+    public void show(Assignment assignment) {
+        requireNonNull(assignment);
+        LocalDate today = LocalDate.now();
+        if (assignment == this.assignment && today.equals(styledOn)) {
+            return;
+        }
+
+        if (!assignment.getLabelName().equals(getText())) {
+            setText(assignment.getLabelName());
+        }
+        setStyle(getAssignmentColor(assignment.getState(today)));
+        this.assignment = assignment;
+        this.styledOn = today;
+    }
+
+    public static String getAssignmentColor(Assignment.State state) {
+        switch (state) {
+        case LATE:
+            return LATE;
+        case GRADED:
+            return GRADED;
+        case PENDING:
+            return PENDING;
+        case SUBMITTED:
+            return SUBMITTED;
+        default:
+            return "";
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import seedu.address.model.attendance.AttendanceRecord;
@@ -15,6 +16,10 @@ public class AttendanceRow {
     private final String studentName;
     private final String studentNumber;
     private final Map<LocalDate, String> attendanceByDate;
+    private final ListenerGroup listeners = new ListenerGroup();
+    // Records are matched by identity, as their hash code changes with their attendance
+    private final Map<AttendanceRecord, Runnable> recordListeners = new IdentityHashMap<>();
+    private Runnable onAttendanceChanged = () -> {};
 
     /**
      * Creates an AttendanceRow with the specified student.
@@ -26,8 +31,7 @@ public class AttendanceRow {
         this.studentNumber = student.getStudentNumber().value;
         this.attendanceByDate = new HashMap<>();
         for (AttendanceRecord record : student.getAttendanceRecord()) {
-            attendanceByDate.put(record.getDate(), record.getAttendance().toString());
-            record.addListener(observable -> updateAttendance(record));
+            addNewAttendanceRecord(record);
         }
     }
 
@@ -53,6 +57,7 @@ public class AttendanceRow {
      */
     private void updateAttendance(AttendanceRecord record) {
         attendanceByDate.put(record.getDate(), record.getAttendance().toString());
+        onAttendanceChanged.run();
     }
 
     /**
@@ -61,6 +66,43 @@ public class AttendanceRow {
      */
     public void addNewAttendanceRecord(AttendanceRecord record) {
         attendanceByDate.put(record.getDate(), record.getAttendance().toString());
-        record.addListener(observable -> updateAttendance(record));
+        if (!recordListeners.containsKey(record)) {
+            recordListeners.put(record,
+                    listeners.addInvalidationListener(record, observable -> updateAttendance(record)));
+        }
+    }
+
+    /**
+     * Removes an attendance record from the row and stops listening to it.
+     * @param record The attendance record to remove.
+     */
+    public void removeAttendanceRecord(AttendanceRecord record) {
+        attendanceByDate.remove(record.getDate());
+        Runnable listener = recordListeners.remove(record);
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Sets the action to run whenever one of the row's attendance records changes.
+     */
+    public void setOnAttendanceChanged(Runnable onAttendanceChanged) {
+        this.onAttendanceChanged = onAttendanceChanged;
+    }
+
+    /**
+     * Returns the number of listeners the row has attached to attendance records.
+     */
+    public int getListenerCount() {
+        return listeners.size();
+    }
+
+    /**
+     * Stops listening to the student's attendance records. The row no longer updates after this.
+     */
+    public void dispose() {
+        listeners.removeAll();
+        recordListeners.clear();
     }
 }
@@ -2,13 +2,17 @@ package seedu.address.ui;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -24,6 +28,7 @@ import javafx.stage.Stage;
 import seedu.address.model.Model;
 import seedu.address.model.attendance.AttendanceRecord;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentNumber;
 import seedu.address.model.student.TutorialGroup;
 
 //Code adapted from ChatGPT prompts, with modifications to fit the project
@@ -35,9 +40,21 @@ import seedu.address.model.student.TutorialGroup;
 
 public class AttendanceWindow {
     private static final String ICON_APPLICATION = "/images/TT_icon.png";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM d yyyy");
     private final TutorialGroup tutorialGroup;
+    private Model model;
     private TableView<AttendanceRow> table;
     private ObservableList<AttendanceRow> data;
+    // Columns of the table, which mirrors this list once the window is shown
+    private final ObservableList<TableColumn<AttendanceRow, String>> columns = FXCollections.observableArrayList();
+
+    // Changes to the model patch the rows and columns below, and the table is redrawn once per burst of changes
+    private final Map<Student, AttendanceRow> rowsByStudent = new IdentityHashMap<>();
+    private final Map<Student, Runnable> recordListListeners = new IdentityHashMap<>();
+    // Everything the window listens to in the model, detached when the window closes
+    private final ListenerGroup listeners = new ListenerGroup();
+    private final TreeMap<LocalDate, TableColumn<AttendanceRow, String>> dateColumns = new TreeMap<>();
+    private boolean isRefreshPending;
 
     public AttendanceWindow(TutorialGroup tutorialGroup) {
         this.tutorialGroup = tutorialGroup;
@@ -53,8 +70,9 @@ public class AttendanceWindow {
             stage.setTitle("Attendance for Tutorial Group: " + tutorialGroup.toString());
             stage.getIcons().add(new javafx.scene.image.Image(ICON_APPLICATION));
 
-            initializeTable(model);
-            initializeStudentListListener(model);
+            attach(model);
+            initializeTable();
+            stage.setOnHidden(event -> dispose());
 
             VBox vbox = new VBox(table);
             vbox.setAlignment(Pos.CENTER);
@@ -79,145 +97,177 @@ public class AttendanceWindow {
         });
     }
 
-    private void initializeTable(Model model) {
-        table = new TableView<>();
-        TableColumn<AttendanceRow, String> studentNameColumn = new TableColumn<>("Student");
-        studentNameColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getStudentName()));
-        table.getColumns().add(studentNameColumn);
-
-        TableColumn<AttendanceRow, String> studentNumberColumn = new TableColumn<>("Student Number");
-        studentNumberColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getStudentNumber()));
-        table.getColumns().add(studentNumberColumn);
-
-        Set<LocalDate> attendanceDates = getAllAttendanceDates(model);
-        for (LocalDate date : attendanceDates) {
-            addDateColumn(date);
-        }
+    /**
+     * Fills the rows and columns from {@code model} and starts following its changes.
+     * A window that is shown again after being closed starts over from the current state of the model.
+     */
+    void attach(Model model) {
+        this.model = model;
+        dateColumns.clear();
+        columns.setAll(List.of(createColumn("Student", AttendanceRow::getStudentName),
+                createColumn("Student Number", AttendanceRow::getStudentNumber)));
 
         data = getStudentAttendanceRows(model);
-        table.setItems(data);
+        data.forEach(this::trackRow);
+        updateDateColumns();
+        initializeStudentListListener(model);
+    }
 
-        for (AttendanceRow row : data) {
-            addAttendanceListener(row, attendanceDates, model);
-            for (AttendanceRecord record : row.student.getAttendanceRecord()) {
-                record.addListener(observable -> refreshTable(model));
-            }
-        }
+    private void initializeTable() {
+        table = new TableView<>();
+        Bindings.bindContent(table.getColumns(), columns);
+        table.setItems(data);
     }
 
     private void initializeStudentListListener(Model model) {
-        model.getAddressBook().getStudentList().addListener((ListChangeListener<Student>) change -> {
+        listeners.addListChangeListener(model.getAddressBook().getStudentList(), change -> {
             while (change.next()) {
-                if (change.wasAdded()) {
-                    handleNewStudents(change.getAddedSubList(), model);
+                // An edited student is replaced, so its new row takes the place of the old one
+                Map<StudentNumber, Integer> vacatedIndices = new HashMap<>();
+                for (Student removedStudent : change.getRemoved()) {
+                    AttendanceRow row = rowsByStudent.get(removedStudent);
+                    if (row != null) {
+                        vacatedIndices.put(removedStudent.getStudentNumber(), data.indexOf(row));
+                        untrackRow(row);
+                        data.remove(row);
+                    }
                 }
-                if (change.wasRemoved()) {
-                    refreshTable(model);
+                for (Student addedStudent : change.getAddedSubList()) {
+                    if (!addedStudent.getTutorialGroup().equals(tutorialGroup)) {
+                        continue;
+                    }
+                    AttendanceRow row = new AttendanceRow(addedStudent);
+                    trackRow(row);
+                    Integer index = vacatedIndices.remove(addedStudent.getStudentNumber());
+                    data.add(index == null ? data.size() : Math.min(index, data.size()), row);
                 }
             }
+            scheduleRefresh();
         });
     }
 
-    private void handleNewStudents(List<? extends Student> newStudents, Model model) {
-        for (Student newStudent : newStudents) {
-            System.out.println("New student added: " + newStudent.getName());
-            AttendanceRow newRow = new AttendanceRow(newStudent);
-
-            for (AttendanceRecord record : newStudent.getAttendanceRecord()) {
-                newRow.addAttendance(record.getDate(), record.getAttendance().toString());
-            }
-
-            data.add(newRow);
-            addAttendanceListener(newRow, getAllAttendanceDates(model), model);
-        }
-    }
+    /**
+     * Keeps {@code row} and the date columns in step with the attendance records of the row's student.
+     */
+    private void trackRow(AttendanceRow row) {
+        rowsByStudent.put(row.student, row);
+        row.setOnAttendanceChanged(this::scheduleRefresh);
 
-    private void addAttendanceListener(AttendanceRow row, Set<LocalDate> attendanceDates, Model model) {
-        row.student.getAttendanceRecord().addListener((ListChangeListener<AttendanceRecord>) change -> {
+        ListChangeListener<AttendanceRecord> listener = change -> {
             while (change.next()) {
-                if (change.wasAdded()) {
-                    for (AttendanceRecord newRecord : change.getAddedSubList()) {
-                        if (!attendanceDates.contains(newRecord.getDate())) {
-                            attendanceDates.add(newRecord.getDate());
-                            addDateColumn(newRecord.getDate());
-                        }
-                        row.addNewAttendanceRecord(newRecord);
-                        newRecord.addListener(observable -> refreshTable(model));
-                    }
-                    refreshTable(model);
+                for (AttendanceRecord removedRecord : change.getRemoved()) {
+                    row.removeAttendanceRecord(removedRecord);
                 }
-                if (change.wasRemoved()) {
-                    for (AttendanceRecord removedRecord : change.getRemoved()) {
-                        attendanceDates.remove(removedRecord.getDate());
-                        removeDateColumn(removedRecord.getDate());
-                    }
-                    refreshTable(model);
+                for (AttendanceRecord addedRecord : change.getAddedSubList()) {
+                    row.addNewAttendanceRecord(addedRecord);
                 }
             }
-        });
+            scheduleRefresh();
+        };
+        recordListListeners.put(row.student,
+                listeners.addListChangeListener(row.student.getAttendanceRecord(), listener));
     }
 
-    private void addDateColumn(LocalDate date) {
-        TableColumn<AttendanceRow, String> dateColumn =
-                new TableColumn<>(DateTimeFormatter.ofPattern("MMM d yyyy").format(date));
-        dateColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getAttendanceForDate(date)));
-        table.getColumns().add(dateColumn);
+    private void untrackRow(AttendanceRow row) {
+        rowsByStudent.remove(row.student);
+        recordListListeners.remove(row.student).run();
+        row.dispose();
     }
 
-    private void removeDateColumn(LocalDate date) {
-        String columnHeader = DateTimeFormatter.ofPattern("MMM d yyyy").format(date);
-        table.getColumns().removeIf(column -> column.getText().equals(columnHeader));
+    /**
+     * Detaches the window from the model, so that a closed window neither updates nor stays in memory.
+     */
+    void dispose() {
+        listeners.removeAll();
+        rowsByStudent.values().forEach(AttendanceRow::dispose);
+        rowsByStudent.clear();
+        recordListListeners.clear();
+        dateColumns.clear();
+        // A refresh still queued for the closed window is dropped
+        isRefreshPending = false;
     }
 
-    public Set<LocalDate> getAllAttendanceDates(Model model) {
-        Set<LocalDate> allDates = new TreeSet<>();
-        for (Student student : model.getStudentsByTutorialGroup(tutorialGroup)) {
-            for (AttendanceRecord record : student.getAttendanceRecord()) {
-                allDates.add(record.getDate());
-            }
+    /**
+     * Returns the number of listeners the window and its rows have attached to the model.
+     */
+    public int getListenerCount() {
+        return listeners.size() + rowsByStudent.values().stream().mapToInt(AttendanceRow::getListenerCount).sum();
+    }
+
+    /**
+     * Updates the table once the current burst of changes is over, however many changes it holds.
+     */
+    private void scheduleRefresh() {
+        if (isRefreshPending) {
+            return;
         }
-        return allDates;
+        isRefreshPending = true;
+        Platform.runLater(() -> {
+            if (!isRefreshPending) {
+                return;
+            }
+            isRefreshPending = false;
+            updateDateColumns();
+            table.refresh();
+        });
     }
 
-    public ObservableList<AttendanceRow> getStudentAttendanceRows(Model model) {
-        ObservableList<AttendanceRow> rows = FXCollections.observableArrayList();
-        for (Student student : model.getStudentsByTutorialGroup(tutorialGroup)) {
-            AttendanceRow row = new AttendanceRow(student);
-            for (AttendanceRecord record : student.getAttendanceRecord()) {
-                row.addAttendance(record.getDate(), record.getAttendance().toString());
+    /**
+     * Adds a column, in date order, for each date that has gained its first record in the tutorial group's
+     * attendance matrix, and removes the column of each date that has lost its last record.
+     */
+    private void updateDateColumns() {
+        Set<LocalDate> dates = model.getAttendanceMatrix(tutorialGroup).getDates();
+        Iterator<Map.Entry<LocalDate, TableColumn<AttendanceRow, String>>> shownColumns =
+                dateColumns.entrySet().iterator();
+        while (shownColumns.hasNext()) {
+            Map.Entry<LocalDate, TableColumn<AttendanceRow, String>> column = shownColumns.next();
+            if (!dates.contains(column.getKey())) {
+                columns.remove(column.getValue());
+                shownColumns.remove();
             }
-            rows.add(row);
         }
-        return rows;
+
+        for (LocalDate date : dates) {
+            if (dateColumns.containsKey(date)) {
+                continue;
+            }
+            TableColumn<AttendanceRow, String> column = createColumn(DATE_FORMATTER.format(date),
+                    row -> row.getAttendanceForDate(date));
+            Map.Entry<LocalDate, TableColumn<AttendanceRow, String>> nextColumn = dateColumns.higherEntry(date);
+            int index = nextColumn == null ? columns.size() : columns.indexOf(nextColumn.getValue());
+            columns.add(index, column);
+            dateColumns.put(date, column);
+        }
     }
 
-    private void refreshTable(Model model) {
-        data.clear();
-        data.addAll(getStudentAttendanceRows(model));
-        sortAndRefreshDates(model);
-        table.refresh();
+    private static TableColumn<AttendanceRow, String> createColumn(String header,
+                                                                    Function<AttendanceRow, String> value) {
+        TableColumn<AttendanceRow, String> column = new TableColumn<>(header);
+        column.setCellValueFactory(cellData -> new SimpleStringProperty(value.apply(cellData.getValue())));
+        return column;
     }
 
-    private void sortAndRefreshDates(Model model) {
-        List<LocalDate> sortedDates = new ArrayList<>(getAllAttendanceDates(model));
-        Collections.sort(sortedDates);
-        table.getColumns().clear();
-        TableColumn<AttendanceRow, String> studentNameColumn = new TableColumn<>("Student");
-        studentNameColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getStudentName()));
-        table.getColumns().add(studentNameColumn);
+    /**
+     * Returns the columns of the table, the student's name and number followed by one column per date.
+     */
+    ObservableList<TableColumn<AttendanceRow, String>> getColumns() {
+        return columns;
+    }
 
-        TableColumn<AttendanceRow, String> studentNumberColumn = new TableColumn<>("Student Number");
-        studentNumberColumn.setCellValueFactory(cellData ->
-                new SimpleStringProperty(cellData.getValue().getStudentNumber()));
-        table.getColumns().add(studentNumberColumn);
+    /**
+     * Returns the rows of the table.
+     */
+    ObservableList<AttendanceRow> getRows() {
+        return data;
+    }
 
-        for (LocalDate date : sortedDates) {
-            addDateColumn(date);
+    public ObservableList<AttendanceRow> getStudentAttendanceRows(Model model) {
+        ObservableList<AttendanceRow> rows = FXCollections.observableArrayList();
+        for (Student student : model.getStudentsByTutorialGroup(tutorialGroup)) {
+            rows.add(new AttendanceRow(student));
         }
+        return rows;
     }
 
     public TutorialGroup getTutorialGroup() {
@@ -20,16 +20,19 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandHistory commandHistory;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which recalls commands from
+     * {@code commandHistory}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandHistory commandHistory) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandHistory = commandHistory;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
@@ -59,15 +62,22 @@ public class CommandBox extends UiPart<Region> {
     private void handleKeyPressed(KeyEvent keyEvent) {
         switch (keyEvent.getCode()) {
         case UP:
-            String previousCommandText = CommandHistory.getPreviousPointerCommand();
+            String previousCommandText = commandHistory.getPrevious(commandTextField.getText());
             putCaretAtEndOfInput(previousCommandText);
             keyEvent.consume();
             break;
         case DOWN:
-            String nextCommandText = CommandHistory.getNextPointerCommand();
+            String nextCommandText = commandHistory.getNext(commandTextField.getText());
             putCaretAtEndOfInput(nextCommandText);
             keyEvent.consume();
             break;
+        case TAB:
+            String text = commandTextField.getText();
+            if (!text.isEmpty()) {
+                commandHistory.search(text, 1).forEach(this::putCaretAtEndOfInput);
+                keyEvent.consume();
+            }
+            break;
         default:
             break;
         }
@@ -0,0 +1,59 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener.Change;
+
+/**
+ * Applies the changes to an observable list to another list that shows its items, such as the children of a pane.
+ * Only the items that changed are touched, and the items that were replaced are updated in place.
+ */
+public class ListChanges {
+
+    private ListChanges() {}
+
+    /**
+     * Applies {@code change} to {@code target}, which must hold one element for each item of the list that
+     * {@code change} came from, before the change.
+     *
+     * @param create Creates the element that shows an added item.
+     * @param update Updates an element to show another item, for items that were replaced or updated.
+     */
+    public static <S, T> void apply(Change<? extends S> change, List<T> target,
+            Function<? super S, ? extends T> create, BiConsumer<? super T, ? super S> update) {
+        requireAllNonNull(change, target, create, update);
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<T> permuted = new ArrayList<>(target.subList(from, change.getTo()));
+                for (int i = from; i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i) - from, target.get(i));
+                }
+                // Removed before adding back, as a node cannot appear twice in a pane
+                target.subList(from, change.getTo()).clear();
+                target.addAll(from, permuted);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    update.accept(target.get(i), change.getList().get(i));
+                }
+            } else {
+                List<? extends S> added = change.getAddedSubList();
+                int reused = Math.min(change.getRemovedSize(), added.size());
+                for (int i = 0; i < reused; i++) {
+                    update.accept(target.get(from + i), added.get(i));
+                }
+                target.subList(from + reused, from + change.getRemovedSize()).clear();
+                List<T> created = new ArrayList<>();
+                for (S item : added.subList(reused, added.size())) {
+                    created.add(create.apply(item));
+                }
+                target.addAll(from + reused, created);
+            }
+        }
+    }
+}
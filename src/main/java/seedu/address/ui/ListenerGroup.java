@@ -0,0 +1,78 @@
+package seedu.address.ui;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * The listeners that a UI component has attached to the model, so that they can all be detached when the component
+ * goes away. A listener that is left attached keeps its component reachable and is still called on every change.
+ */
+public class ListenerGroup {
+
+    private final Set<Subscription> subscriptions = new LinkedHashSet<>();
+
+    /**
+     * Adds {@code listener} to {@code list}.
+     *
+     * @return a handle that detaches just this listener.
+     */
+    public <T> Runnable addListChangeListener(ObservableList<T> list, ListChangeListener<? super T> listener) {
+        list.addListener(listener);
+        return track(() -> list.removeListener(listener));
+    }
+
+    /**
+     * Adds {@code listener} to {@code observable}.
+     *
+     * @return a handle that detaches just this listener.
+     */
+    public Runnable addInvalidationListener(Observable observable, InvalidationListener listener) {
+        observable.addListener(listener);
+        return track(() -> observable.removeListener(listener));
+    }
+
+    /**
+     * Returns the number of listeners that are still attached.
+     */
+    public int size() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Detaches every listener in this group.
+     */
+    public void removeAll() {
+        Set<Subscription> toRemove = new LinkedHashSet<>(subscriptions);
+        subscriptions.clear();
+        toRemove.forEach(subscription -> subscription.remover.run());
+    }
+
+    private Runnable track(Runnable remover) {
+        Subscription subscription = new Subscription(remover);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * A listener in this group, which detaches it when run.
+     */
+    private class Subscription implements Runnable {
+        private final Runnable remover;
+
+        Subscription(Runnable remover) {
+            this.remover = remover;
+        }
+
+        @Override
+        public void run() {
+            if (subscriptions.remove(this)) {
+                remover.run();
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
-import javafx.collections.ListChangeListener;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -10,15 +14,11 @@ import seedu.address.model.assignment.Assignment;
 import seedu.address.model.student.Student;
 
 /**
- * An UI component that displays information of a {@code Person}.
+ * An UI component that displays information of a {@code Student}.
  */
 public class StudentCard extends UiPart<Region> {
 
     private static final String FXML = "StudentListCard.fxml";
-    private static final String GRADED = "-fx-background-color: #029e1e";
-    private static final String SUBMITTED = "-fx-background-color: #c7a900";
-    private static final String PENDING = "-fx-background-color: #9e1402";
-    private static final String LATE = "-fx-background-color: #101010";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -28,7 +28,8 @@ public class StudentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Student student;
+    private final ListenerGroup listeners = new ListenerGroup();
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -46,49 +47,78 @@ public class StudentCard extends UiPart<Region> {
     private FlowPane assignments;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code StudentCard} that shows no student until {@link #setStudent} is called.
      */
-    public StudentCard(Student student, int displayedIndex) {
+    public StudentCard() {
         super(FXML);
-        this.student = student;
+    }
+
+    /**
+     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     */
+    public StudentCard(Student student, int displayedIndex) {
+        this();
+        setStudent(student, displayedIndex);
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * Shows {@code student} at {@code displayedIndex} on this card, in place of the student shown before.
+     * The card stops following the changes to the previous student.
+     */
+    public void setStudent(Student student, int displayedIndex) {
+        requireNonNull(student);
         id.setText(displayedIndex + ". ");
+        if (student == this.student) {
+            showAssignments();
+            return;
+        }
+
+        clearStudent();
+        this.student = student;
         name.setText(student.getName().fullName);
         contactNumber.setText(student.getPhone().value);
         tutorialGroup.setText(student.getTutorialGroup().value);
         studentNumber.setText(student.getStudentNumber().value);
-
-        student.getAssignments().forEach(assignment -> {
-            Label label = new Label(assignment.getLabelName());
-            label.setStyle(getAssignmentColor(assignment));
-            assignments.getChildren().add(label);
-        });
+        showAssignments();
 
         // Updates the flow pane when the list of assignments changes
-        student.getAssignments().addListener((ListChangeListener<Assignment>) change -> {
-            while (change.next()) {
-                assignments.getChildren().clear();
-                student.getAssignments().forEach(
-                        assignment -> {
-                            Label label = new Label(assignment.getLabelName());
-                            label.setStyle(getAssignmentColor(assignment));
-                            assignments.getChildren().add(label);
-                        });
-            }
-        });
+        listeners.addListChangeListener(student.getAssignments(), change ->
+                ListChanges.apply(change, assignments.getChildren(), AssignmentLabel::new, StudentCard::showOnLabel));
     }
 
-    public String getAssignmentColor(Assignment assignment) {
-        switch (assignment.getState()) {
-        case LATE:
-            return LATE;
-        case GRADED:
-            return GRADED;
-        case PENDING:
-            return PENDING;
-        case SUBMITTED:
-            return SUBMITTED;
-        default:
-            return "";
+    /**
+     * Stops following the student shown on this card, if any.
+     */
+    public void clearStudent() {
+        listeners.removeAll();
+        student = null;
+    }
+
+    /**
+     * Shows the assignments of the student on the labels already on this card, adding or removing labels only
+     * when the number of assignments differs.
+     */
+    private void showAssignments() {
+        List<Node> labels = assignments.getChildren();
+        List<Assignment> studentAssignments = student.getAssignments();
+        for (int i = 0; i < studentAssignments.size(); i++) {
+            if (i < labels.size()) {
+                showOnLabel(labels.get(i), studentAssignments.get(i));
+            } else {
+                labels.add(new AssignmentLabel(studentAssignments.get(i)));
+            }
         }
+        if (labels.size() > studentAssignments.size()) {
+            labels.subList(studentAssignments.size(), labels.size()).clear();
+        }
+    }
+
+    private static void showOnLabel(Node label, Assignment assignment) {
+        AssignmentLabel assignmentLabel = (AssignmentLabel) label;
+        assignmentLabel.show(assignment);
     }
 }
@@ -31,17 +31,27 @@ public class StudentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentCard}.
+     * The cell keeps one card and shows each student it is given on that card, so scrolling creates no new cards.
      */
     class StudentListViewCell extends ListCell<Student> {
+        private StudentCard studentCard;
+
         @Override
         protected void updateItem(Student student, boolean empty) {
             super.updateItem(student, empty);
 
             if (empty || student == null) {
+                if (studentCard != null) {
+                    studentCard.clearStudent();
+                }
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new StudentCard(student, getIndex() + 1).getRoot());
+                if (studentCard == null) {
+                    studentCard = new StudentCard();
+                }
+                studentCard.setStudent(student, getIndex() + 1);
+                setGraphic(studentCard.getRoot());
             }
         }
     }
@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class DateUtilTest {
+
+    @Test
+    public void parseIsoDate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DateUtil.parseIsoDate(null));
+    }
+
+    @Test
+    public void parseIsoDate_validDates_parsed() {
+        assertEquals(Optional.of(LocalDate.of(2024, 1, 8)), DateUtil.parseIsoDate("2024-01-08"));
+        assertEquals(Optional.of(LocalDate.of(2024, 2, 29)), DateUtil.parseIsoDate("2024-02-29"));
+        assertEquals(Optional.of(LocalDate.of(0, 1, 1)), DateUtil.parseIsoDate("0000-01-01"));
+        assertEquals(Optional.of(LocalDate.of(12345, 6, 7)), DateUtil.parseIsoDate("+12345-06-07"));
+    }
+
+    @Test
+    public void parseIsoDate_invalidDates_empty() {
+        assertFalse(DateUtil.parseIsoDate("").isPresent());
+        assertFalse(DateUtil.parseIsoDate("2023-02-29").isPresent()); // not a leap year
+        assertFalse(DateUtil.parseIsoDate("2024-13-01").isPresent());
+        assertFalse(DateUtil.parseIsoDate("2024-1-08").isPresent());
+        assertFalse(DateUtil.parseIsoDate("2024/01/08").isPresent());
+        assertFalse(DateUtil.parseIsoDate("2024-01-0a").isPresent());
+        assertFalse(DateUtil.parseIsoDate(" 2024-01-08").isPresent());
+        assertFalse(DateUtil.parseIsoDate("2024-01-08 ").isPresent());
+    }
+
+    @Test
+    public void parseIsoDate_sameAsIsoFormatter() {
+        String[] inputs = {"2024-01-08", "1999-12-31", "2023-02-29", "2024-04-31", "2024-00-10", "9999-12-31",
+            "12024-01-08", "-0001-01-01", "2024-01-8", "\uff12\uff10\uff12\uff14-01-08"};
+        for (String input : inputs) {
+            Optional<LocalDate> expected;
+            try {
+                expected = Optional.of(LocalDate.parse(input, DateTimeFormatter.ISO_LOCAL_DATE));
+            } catch (DateTimeParseException e) {
+                expected = Optional.empty();
+            }
+            assertEquals(expected, DateUtil.parseIsoDate(input), input);
+        }
+    }
+}
@@ -1,44 +1,112 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
-import seedu.address.testutil.TestUtil;
 
 /**
  * Tests JSON Read and Write
  */
 public class JsonUtilTest {
 
-    private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
+    @TempDir
+    public Path testFolder;
+
+    private Path serializationFile;
+    private Path arrayFile;
+
+    @BeforeEach
+    public void setUp() {
+        serializationFile = testFolder.resolve("serialize.json");
+        arrayFile = testFolder.resolve("array.json");
+    }
 
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
         serializableTestClass.setTestValues();
 
-        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass);
+        JsonUtil.serializeObjectToJsonFile(serializationFile, serializableTestClass);
 
-        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
+        assertEquals(FileUtil.readFromFile(serializationFile), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
-        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        FileUtil.writeToFile(serializationFile, SerializableTestClass.JSON_STRING_REPRESENTATION);
 
         SerializableTestClass serializableTestClass = JsonUtil
-                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class);
+                .deserializeObjectFromJsonFile(serializationFile, SerializableTestClass.class);
 
         assertEquals(serializableTestClass.getName(), SerializableTestClass.getNameTestValue());
         assertEquals(serializableTestClass.getListOfLocalDateTimes(), SerializableTestClass.getListTestValues());
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayField_validFile_readsElementsInOrder() throws Exception {
+        FileUtil.writeToFile(arrayFile, "{ \"skipped\" : { \"values\" : [ 0 ] }, \"values\" : [ \"a\", \"b\" ] }");
+        List<String> elements = new ArrayList<>();
+
+        assertTrue(JsonUtil.readJsonArrayField(arrayFile, "values", String.class, elements::add));
+        assertEquals(List.of("a", "b"), elements);
+    }
+
+    @Test
+    public void readJsonArrayField_otherFields_collectsSingleValues() throws Exception {
+        FileUtil.writeToFile(arrayFile,
+                "{ \"id\" : \"x\", \"values\" : [ ], \"size\" : 2, \"empty\" : null, \"list\" : [ 1 ] }");
+        Map<String, String> otherFields = new HashMap<>();
+
+        assertTrue(JsonUtil.readJsonArrayField(arrayFile, "values", String.class, element -> { }, otherFields));
+        assertEquals(Map.of("id", "x", "size", "2"), otherFields);
+    }
+
+    @Test
+    public void readJsonArrayField_missingFile_returnsFalse() throws Exception {
+        Path missingFile = testFolder.resolve("missing.json");
+        assertFalse(JsonUtil.readJsonArrayField(missingFile, "values", String.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayField_missingField_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(arrayFile, "{ \"other\" : [ \"a\" ] }");
+        assertThrows(DataLoadingException.class, () ->
+                JsonUtil.readJsonArrayField(arrayFile, "values", String.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayField_truncatedFile_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(arrayFile, "{ \"values\" : [ \"a\", ");
+        assertThrows(DataLoadingException.class, () ->
+                JsonUtil.readJsonArrayField(arrayFile, "values", String.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayField_handlerRejectsElement_throwsIllegalValueException() throws Exception {
+        FileUtil.writeToFile(arrayFile, "{ \"values\" : [ \"a\" ] }");
+        assertThrows(IllegalValueException.class, () ->
+                JsonUtil.readJsonArrayField(arrayFile, "values", String.class, element -> {
+                    throw new IllegalValueException(element);
+                }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
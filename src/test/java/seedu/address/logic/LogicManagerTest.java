@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_DIDDY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_DIDDY;
@@ -11,8 +13,12 @@ import static seedu.address.testutil.TypicalStudents.DIDDY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -20,17 +26,25 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommandStack;
 import seedu.address.logic.commands.DeleteStudentCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.student.Student;
 import seedu.address.storage.JsonStudentAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PendingSave;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.StudentBuilder;
 
@@ -43,16 +57,24 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    private StorageManager storage;
 
     @BeforeEach
     public void setUp() {
         JsonStudentAddressBookStorage addressBookStorage =
                 new JsonStudentAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
+    @AfterEach
+    public void tearDown() {
+        // Lets the temporary folder be deleted without background writes racing it
+        logic.flushCommandHistory();
+        storage.flushAddressBook();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -72,13 +94,115 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_DIDDY + PHONE_DESC_DIDDY
+                + TUTORIAL_GROUP_DESC_DIDDY + STUDENT_NUMBER_DESC_DIDDY);
+        storage.flushAddressBook();
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_undoRedo_usesOwnBoundedHistory() throws Exception {
+        CommandStack commandStack = new CommandStack(1, Long.MAX_VALUE);
+        logic = new LogicManager(model, storage, commandStack);
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_DIDDY + PHONE_DESC_DIDDY
+                + TUTORIAL_GROUP_DESC_DIDDY + STUDENT_NUMBER_DESC_DIDDY;
+
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(1, commandStack.getUndoCount());
+
+        // Only the list command is kept, so the added student stays
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(UndoCommand.MESSAGE_NOTHING_TO_UNDO,
+                logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getStudentList().size());
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, logic.execute(RedoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(RedoCommand.MESSAGE_NOTHING_TO_REDO,
+                logic.execute(RedoCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_readOnlyCommandBetweenUndoAndRedo_redoesCommand() throws Exception {
+        model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_DIDDY + PHONE_DESC_DIDDY
+                + TUTORIAL_GROUP_DESC_DIDDY + STUDENT_NUMBER_DESC_DIDDY);
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getStudentList().size());
+
+        logic.execute(StatsCommand.COMMAND_WORD);
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, logic.execute(RedoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void execute_runScript_savedAndUndoneAsOneCommand() throws Exception {
+        model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(AddStudentCommand.COMMAND_WORD + NAME_DESC_DIDDY + PHONE_DESC_DIDDY
+                + TUTORIAL_GROUP_DESC_DIDDY + STUDENT_NUMBER_DESC_DIDDY, ListCommand.COMMAND_WORD));
+        logic.execute(RunScriptCommand.COMMAND_WORD + " " + scriptPath);
+        storage.flushAddressBook();
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertEquals(1, model.getAddressBook().getStudentList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getStudentList().size());
+    }
+
+    @Test
+    public void execute_validCommand_timingsRecorded() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        logic = new LogicManager(model, storage, new CommandStack(), metrics);
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_DIDDY + PHONE_DESC_DIDDY
+                + TUTORIAL_GROUP_DESC_DIDDY + STUDENT_NUMBER_DESC_DIDDY);
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, metrics.getHistogram(AddStudentCommand.COMMAND_WORD, phase).get().getCount());
+        }
+
+        // Read-only commands are not saved
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(metrics.getHistogram(ListCommand.COMMAND_WORD, Phase.EXECUTE).isPresent());
+        assertFalse(metrics.getHistogram(ListCommand.COMMAND_WORD, Phase.PERSIST).isPresent());
+    }
+
+    @Test
+    public void saveMetrics_writesReportNextToDataFile() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.saveMetrics();
+        Path metricsPath = temporaryFolder.resolve(LogicManager.METRICS_FILE_NAME);
+        assertTrue(Files.readString(metricsPath).contains(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_validCommands_historyKeptAcrossSessions() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(List.of(ListCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD),
+                logic.getCommandHistory().getCommands());
+
+        logic.flushCommandHistory();
+        Logic nextSession = new LogicManager(model, storage);
+        assertEquals(List.of(ListCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD),
+                nextSession.getCommandHistory().getCommands());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
         assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
@@ -167,33 +291,39 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be passed to the save failure handler
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        // Inject LogicManager with an AddressBookStorage that throws the IOException e when writing
         JsonStudentAddressBookStorage addressBookStorage = new JsonStudentAddressBookStorage(prefPath) {
             @Override
-            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
-                    throws IOException {
+            public void writeAddressBook(PendingSave save) throws IOException {
                 throw e;
             }
         };
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedFailures = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedFailures::add);
 
-        // Triggers the saveAddressBook method by executing an add command
+        // Triggers a background save by executing an add command, which itself still succeeds
         String addStudentCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_DIDDY + PHONE_DESC_DIDDY
                 + TUTORIAL_GROUP_DESC_DIDDY + STUDENT_NUMBER_DESC_DIDDY;
         Student expectedPerson = new StudentBuilder(DIDDY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudent(expectedPerson);
-        assertCommandFailure(addStudentCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addStudentCommand);
+        assertEquals(expectedModel, model);
+
+        storage.flushAddressBook();
+        assertEquals(List.of(expectedMessage), reportedFailures);
     }
 
 
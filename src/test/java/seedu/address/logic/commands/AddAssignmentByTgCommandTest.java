@@ -121,6 +121,11 @@ class AddAssignmentByTgCommandTest {
             }
             return new ArrayList<>();
         }
+
+        @Override
+        public void batch(Runnable changes) {
+            changes.run();
+        }
     }
 
 
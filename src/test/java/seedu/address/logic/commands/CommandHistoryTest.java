@@ -1,65 +1,107 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class CommandHistoryTest {
     private CommandHistory commandHistory;
-    private int pointer;
 
     @BeforeEach
     public void setUp() {
-        commandHistory = CommandHistory.getInstance();
-        pointer = CommandHistory.getPointer();
+        commandHistory = new CommandHistory(3);
+    }
 
-        // Clear command history before every test
-        commandHistory.clear();
-        pointer = -1;
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(0));
     }
 
     @Test
-    public void addCommand() {
-        commandHistory.addCommand("command");
-        assertEquals(commandHistory.get(0), "command");
-        assertEquals(CommandHistory.getPointer(), 1);
+    public void add() {
+        commandHistory.add("command");
+        assertEquals("command", commandHistory.get(0));
+        assertEquals(1, commandHistory.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> commandHistory.get(1));
+    }
+
+    @Test
+    public void add_full_replacesOldestCommand() {
+        commandHistory.add("list");
+        commandHistory.add("help");
+        commandHistory.add("list");
+        commandHistory.add("undo");
+        assertEquals(List.of("help", "list", "undo"), commandHistory.getCommands());
+
+        // The replaced command is still found through the later copy of it
+        assertEquals(List.of("list"), commandHistory.search("li", 5));
+        commandHistory.add("redo");
+        assertEquals(List.of(), commandHistory.search("help", 5));
     }
 
     @Test
-    public void getPreviousPointerCommand() {
+    public void getPrevious() {
         // EP: command history is empty
-        assertEquals(commandHistory.getPreviousPointerCommand(), "");
+        assertEquals("", commandHistory.getPrevious(""));
 
-        // EP: pointer is at the zero index
-        commandHistory.addCommand("command1");
-        commandHistory.getPreviousPointerCommand();
-        assertEquals(commandHistory.getPreviousPointerCommand(), "command1");
+        commandHistory.add("command1");
+        commandHistory.add("command2");
+        assertEquals("command2", commandHistory.getPrevious(""));
+        assertEquals("command1", commandHistory.getPrevious("command2"));
 
-        // EP: pointer is not at zero index
-        commandHistory.addCommand("command2");
-        assertEquals(commandHistory.getPreviousPointerCommand(), "command2");
+        // EP: already at the oldest command
+        assertEquals("command1", commandHistory.getPrevious("command1"));
+    }
+
+    @Test
+    public void getPrevious_typedText_skipsCommandsWithoutIt() {
+        commandHistory.add("list");
+        commandHistory.add("help");
+        commandHistory.add("lists");
+        assertEquals("lists", commandHistory.getPrevious("li"));
+        assertEquals("list", commandHistory.getPrevious("lists"));
 
-        commandHistory.clear();
+        // EP: no command starts with the typed text
+        commandHistory.add("help");
+        assertEquals("xyz", commandHistory.getPrevious("xyz"));
     }
 
     @Test
-    public void getNextPointerCommand() {
+    public void getNext() {
         // EP: command history is empty
-        assertEquals(commandHistory.getNextPointerCommand(), "");
+        assertEquals("", commandHistory.getNext(""));
+
+        // EP: not stepping through the history
+        commandHistory.add("command1");
+        assertEquals("typed", commandHistory.getNext("typed"));
 
-        // EP: pointer is more than or equals the last index
-        commandHistory.addCommand("command1");
-        assertEquals(commandHistory.getNextPointerCommand(), "");
-        commandHistory.getPreviousPointerCommand();
-        assertEquals(commandHistory.getNextPointerCommand(), "");
+        // EP: stepping past the most recent command returns the typed text
+        commandHistory.add("command2");
+        commandHistory.getPrevious("comm");
+        commandHistory.getPrevious("command2");
+        assertEquals("command2", commandHistory.getNext("command1"));
+        assertEquals("comm", commandHistory.getNext("command2"));
 
-        // EP: pointer is less than the last index
-        commandHistory.addCommand("command2");
-        commandHistory.getPreviousPointerCommand();
-        commandHistory.getPreviousPointerCommand();
-        assertEquals(commandHistory.getNextPointerCommand(), "command2");
+        // EP: adding a command stops stepping
+        commandHistory.getPrevious("");
+        commandHistory.add("command3");
+        assertEquals("", commandHistory.getNext(""));
+    }
+
+    @Test
+    public void search() {
+        commandHistory.add("list");
+        commandHistory.add("deletes n/Alex");
+        commandHistory.add("listat tg/T01");
 
-        commandHistory.clear();
+        // Prefix matches come before substring matches, each most recent first
+        assertEquals(List.of("listat tg/T01", "list"), commandHistory.search("list", 5));
+        assertEquals(List.of("listat tg/T01"), commandHistory.search("list", 1));
+        assertEquals(List.of("listat tg/T01", "list", "deletes n/Alex"), commandHistory.search("l", 5));
+        assertEquals(List.of(), commandHistory.search("undo", 5));
     }
 }
@@ -1,42 +1,178 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
 public class CommandStackTest {
     private CommandStack commandStack;
 
     @BeforeEach
     public void setUp() {
-        commandStack = CommandStack.getInstance();
-        commandStack.clear();
+        commandStack = new CommandStack();
     }
 
     @Test
-    public void pushCommand() {
-        // EP: command is an UndoCommand
-        Command command = new UndoCommand();
-        CommandStack.pushCommand(command);
-        assertTrue(commandStack.isEmpty());
+    public void push() {
+        // EP: command is an UndoCommand or a RedoCommand
+        commandStack.push(new UndoCommand(commandStack));
+        commandStack.push(new RedoCommand(commandStack));
+        assertEquals(0, commandStack.getUndoCount());
 
-        // EP: command is not an UndoCommand
-        command = new ListCommand();
-        CommandStack.pushCommand(command);
-        assertEquals(commandStack.peek(), command);
-        commandStack.clear();
+        // EP: command cannot be undone
+        commandStack.push(new ExitCommand());
+        assertEquals(0, commandStack.getUndoCount());
+
+        // EP: command can be undone
+        Command command = new ListCommand();
+        commandStack.push(command);
+        assertEquals(1, commandStack.getUndoCount());
+        assertEquals(command, commandStack.popUndo());
     }
 
     @Test
-    public void popCommand() {
+    public void popUndo() {
         // EP: command stack is empty
-        assertEquals(CommandStack.popCommand(), null);
+        assertNull(commandStack.popUndo());
 
-        // EP: command stack is not empty
-        Command command = new ListCommand();
-        CommandStack.pushCommand(command);
-        assertEquals(CommandStack.popCommand(), command);
+        // EP: command stack is not empty, most recent command first
+        Command first = new SizedCommandStub(100);
+        Command second = new SizedCommandStub(100);
+        commandStack.push(first);
+        commandStack.push(second);
+        assertEquals(second, commandStack.popUndo());
+        assertEquals(first, commandStack.popUndo());
+        assertNull(commandStack.popUndo());
+    }
+
+    @Test
+    public void popRedo() {
+        Command command = new SizedCommandStub(100);
+        assertNull(commandStack.popRedo());
+
+        commandStack.pushRedo(command);
+        assertEquals(1, commandStack.getRedoCount());
+        assertEquals(command, commandStack.popRedo());
+        assertNull(commandStack.popRedo());
+    }
+
+    @Test
+    public void push_afterUndo_forgetsCommandsToRedo() {
+        Command undone = new SizedCommandStub(100);
+        commandStack.pushRedo(undone);
+
+        // Redoing a command keeps the rest of the commands to redo
+        commandStack.pushUndo(new SizedCommandStub(100));
+        assertEquals(1, commandStack.getRedoCount());
+
+        // Read-only commands keep them too
+        commandStack.push(new ExitCommand());
+        assertEquals(1, commandStack.getRedoCount());
+
+        // Any other command forgets them, even one that cannot be undone
+        commandStack.push(new MutatingCommandStub());
+        assertEquals(0, commandStack.getRedoCount());
+        assertEquals(100, commandStack.getBytes());
+    }
+
+    @Test
+    public void push_beyondMaxDepth_forgetsOldestCommands() {
+        commandStack = new CommandStack(2, Long.MAX_VALUE);
+        Command first = new SizedCommandStub(100);
+        Command second = new SizedCommandStub(100);
+        Command third = new SizedCommandStub(100);
+        commandStack.push(first);
+        commandStack.push(second);
+        commandStack.push(third);
+
+        assertEquals(2, commandStack.getUndoCount());
+        assertEquals(200, commandStack.getBytes());
+        assertEquals(third, commandStack.popUndo());
+        assertEquals(second, commandStack.popUndo());
+        assertNull(commandStack.popUndo());
+    }
+
+    @Test
+    public void push_beyondMaxBytes_forgetsOldestCommandsButKeepsNewest() {
+        commandStack = new CommandStack(100, 250);
+        commandStack.push(new SizedCommandStub(100));
+        commandStack.push(new SizedCommandStub(100));
+        assertEquals(2, commandStack.getUndoCount());
+
+        commandStack.push(new SizedCommandStub(100));
+        assertEquals(2, commandStack.getUndoCount());
+        assertEquals(200, commandStack.getBytes());
+
+        Command huge = new SizedCommandStub(1000);
+        commandStack.push(huge);
+        assertEquals(1, commandStack.getUndoCount());
+        assertEquals(1000, commandStack.getBytes());
+        assertEquals(huge, commandStack.popUndo());
+        assertEquals(0, commandStack.getBytes());
+    }
+
+    @Test
+    public void clear() {
+        commandStack.push(new SizedCommandStub(100));
+        commandStack.pushRedo(new SizedCommandStub(100));
+        commandStack.clear();
+        assertEquals(0, commandStack.getUndoCount());
+        assertEquals(0, commandStack.getRedoCount());
+        assertEquals(0, commandStack.getBytes());
+    }
+
+    @Test
+    public void estimateBytes_growsWithRecords() {
+        Student student = new StudentBuilder().build();
+        long empty = CommandStack.estimateBytes(student);
+        student.markAttendance(LocalDate.of(2024, 10, 21), "p");
+        assertTrue(CommandStack.estimateBytes(student) > empty);
+    }
+
+    /**
+     * A command that changes the data but cannot be undone.
+     */
+    private static class MutatingCommandStub extends Command {
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult("");
+        }
+    }
+
+    private static class SizedCommandStub extends Command {
+        private final long bytes;
+
+        SizedCommandStub(long bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult("");
+        }
+
+        @Override
+        public boolean isUndoable() {
+            return true;
+        }
+
+        @Override
+        public boolean undo(Model model) {
+            return true;
+        }
+
+        @Override
+        public long estimateUndoBytes() {
+            return bytes;
+        }
     }
 }
@@ -69,10 +69,10 @@ public class DeleteAttendanceAllCommandTest {
         DeleteAttendanceAllCommand command = new DeleteAttendanceAllCommand(validTutorialGroup, validDate);
         command.execute(model);
 
-        CommandStack commandStack = CommandStack.getInstance();
+        CommandStack commandStack = new CommandStack();
         commandStack.push(command);
 
-        UndoCommand undoCommand = new UndoCommand();
+        UndoCommand undoCommand = new UndoCommand(commandStack);
         CommandResult result = undoCommand.execute(model);
 
         assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
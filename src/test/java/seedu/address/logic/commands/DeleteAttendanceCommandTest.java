@@ -83,10 +83,10 @@ public class DeleteAttendanceCommandTest {
         DeleteAttendanceCommand deleteCommand = new DeleteAttendanceCommand(validName, validDate, studentNumber);
         deleteCommand.execute(modelStub);
 
-        CommandStack commandStack = CommandStack.getInstance();
+        CommandStack commandStack = new CommandStack();
         commandStack.push(deleteCommand);
 
-        UndoCommand undoCommand = new UndoCommand();
+        UndoCommand undoCommand = new UndoCommand(commandStack);
         CommandResult result = undoCommand.execute(modelStub);
 
         assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
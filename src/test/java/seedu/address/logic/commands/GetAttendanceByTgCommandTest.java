@@ -149,11 +149,7 @@ class GetAttendanceByTgCommandTest {
         public ObservableList<AttendanceRow> getStudentAttendanceRows(Model model) {
             ObservableList<AttendanceRow> rows = FXCollections.observableArrayList();
             for (Student student : students) {
-                AttendanceRow row = new AttendanceRow(student);
-                for (AttendanceRecord record : student.getAttendanceRecord()) {
-                    row.addAttendance(record.getDate(), record.getAttendance().toString());
-                }
-                rows.add(row);
+                rows.add(new AttendanceRow(student));
             }
             return rows;
         }
@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code GetAttendanceStatsCommand}.
+ */
+public class GetAttendanceStatsCommandTest {
+
+    private final TutorialGroup validTutorialGroup = new TutorialGroup("A01");
+    private final LocalDate first = LocalDate.of(2024, 10, 21);
+    private final LocalDate second = LocalDate.of(2024, 10, 28);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        Student john = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
+                .withTutorialGroup("A01").build();
+        Student jane = new StudentBuilder().withName("Jane Doe").withStudentNumber("A7654321M")
+                .withTutorialGroup("A01").build();
+        Student other = new StudentBuilder().withName("Amy Bee").withStudentNumber("A1111111M")
+                .withTutorialGroup("B01").build();
+        model.addStudent(john);
+        model.addStudent(jane);
+        model.addStudent(other);
+
+        john.markAttendance(first, "p");
+        john.markAttendance(second, "p");
+        jane.markAttendance(first, "a");
+        jane.markAttendance(second, "p");
+        other.markAttendance(first, "a");
+    }
+
+    @Test
+    public void execute_allDates_summarisesSessionsAndStudents() throws Exception {
+        CommandResult result = new GetAttendanceStatsCommand(validTutorialGroup).execute(model);
+        assertEquals("Attendance of tutorial group A01, all dates:\n"
+                + "Sessions:\n"
+                + "2024-10-21: 1 present, 1 absent (50%)\n"
+                + "2024-10-28: 2 present, 0 absent (100%)\n"
+                + "Students:\n"
+                + "John Doe (A1234567M): 2/2 present (100%)\n"
+                + "Jane Doe (A7654321M): 1/2 present (50%)\n"
+                + "Below 75%: Jane Doe", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_dateRange_countsOnlySessionsInRange() throws Exception {
+        CommandResult result = new GetAttendanceStatsCommand(validTutorialGroup, second, second, 50)
+                .execute(model);
+        assertEquals("Attendance of tutorial group A01, from 2024-10-28 to 2024-10-28:\n"
+                + "Sessions:\n"
+                + "2024-10-28: 2 present, 0 absent (100%)\n"
+                + "Students:\n"
+                + "John Doe (A1234567M): 1/1 present (100%)\n"
+                + "Jane Doe (A7654321M): 1/1 present (100%)", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_followsAttendanceChanges() throws Exception {
+        Student jane = model.getStudentsByTutorialGroup(validTutorialGroup).get(1);
+        jane.markAttendance(first, "p");
+        jane.deleteAttendance(second);
+
+        CommandResult result = new GetAttendanceStatsCommand(validTutorialGroup, LocalDate.MIN, first, 75)
+                .execute(model);
+        assertEquals("Attendance of tutorial group A01, up to 2024-10-21:\n"
+                + "Sessions:\n"
+                + "2024-10-21: 2 present, 0 absent (100%)\n"
+                + "Students:\n"
+                + "John Doe (A1234567M): 1/1 present (100%)\n"
+                + "Jane Doe (A7654321M): 1/1 present (100%)", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noSessionsInRange_reportsNoAttendance() throws Exception {
+        LocalDate later = second.plusDays(1);
+        CommandResult result = new GetAttendanceStatsCommand(validTutorialGroup, later, LocalDate.MAX, 75)
+                .execute(model);
+        assertEquals("Attendance of tutorial group A01, from 2024-10-29:\n"
+                + GetAttendanceStatsCommand.MESSAGE_NO_SESSIONS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_emptyTutorialGroup_throwsCommandException() {
+        TutorialGroup emptyTutorialGroup = new TutorialGroup("C01");
+        assertCommandFailure(new GetAttendanceStatsCommand(emptyTutorialGroup), model,
+                String.format(GetAttendanceStatsCommand.MESSAGE_NO_STUDENTS, emptyTutorialGroup));
+    }
+
+    @Test
+    public void isMutating_returnsFalse() {
+        assertFalse(new GetAttendanceStatsCommand(validTutorialGroup).isMutating());
+    }
+
+    @Test
+    public void equals() {
+        GetAttendanceStatsCommand command = new GetAttendanceStatsCommand(validTutorialGroup, first, second, 75);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new GetAttendanceStatsCommand(validTutorialGroup, first, second, 75)));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new GetAttendanceStatsCommand(new TutorialGroup("B01"), first, second, 75)));
+        assertFalse(command.equals(new GetAttendanceStatsCommand(validTutorialGroup, second, second, 75)));
+        assertFalse(command.equals(new GetAttendanceStatsCommand(validTutorialGroup, first, first, 75)));
+        assertFalse(command.equals(new GetAttendanceStatsCommand(validTutorialGroup, first, second, 80)));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showStudentAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
@@ -30,6 +31,11 @@ public class ListCommandTest {
         expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
     }
 
+    @Test
+    public void isMutating_returnsFalse() {
+        assertFalse(new ListCommand().isMutating());
+    }
+
     @Test
     public void execute_listIsNotFiltered_showsSameList() {
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
@@ -59,7 +65,7 @@ public class ListCommandTest {
         assert !listFirstCommand.equals(null);
 
         // different student -> returns false
-        assert !listFirstCommand.equals(new UndoCommand());
+        assert !listFirstCommand.equals(new UndoCommand(new CommandStack()));
     }
 
     @Test
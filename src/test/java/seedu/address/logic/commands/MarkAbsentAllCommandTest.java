@@ -121,10 +121,10 @@ public class MarkAbsentAllCommandTest {
         MarkAbsentAllCommand markCommand = new MarkAbsentAllCommand(validTutorialGroup, validDate);
         markCommand.execute(model);
 
-        CommandStack commandStack = CommandStack.getInstance();
+        CommandStack commandStack = new CommandStack();
         commandStack.push(markCommand);
 
-        UndoCommand undoCommand = new UndoCommand();
+        UndoCommand undoCommand = new UndoCommand(commandStack);
         CommandResult result = undoCommand.execute(model);
 
         assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
@@ -154,7 +154,7 @@ public class MarkAbsentAllCommandTest {
     @Test
     public void execute_noCommandToUndo_throwsCommandException() {
         Model model = new ModelManager();
-        UndoCommand undoCommand = new UndoCommand();
+        UndoCommand undoCommand = new UndoCommand(new CommandStack());
         CommandResult result = undoCommand.execute(model);
 
         assertEquals("There are no commands to undo", result.getFeedbackToUser());
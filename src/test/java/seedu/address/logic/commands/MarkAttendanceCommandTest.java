@@ -83,10 +83,10 @@ public class MarkAttendanceCommandTest {
                  date, attendance, studentNumber);
         markCommand.execute(modelStub);
 
-        CommandStack commandStack = CommandStack.getInstance();
+        CommandStack commandStack = new CommandStack();
         commandStack.push(markCommand);
 
-        UndoCommand undoCommand = new UndoCommand();
+        UndoCommand undoCommand = new UndoCommand(commandStack);
         CommandResult result = undoCommand.execute(modelStub);
 
         assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
@@ -120,10 +120,10 @@ public class MarkPresentAllCommandTest {
         MarkPresentAllCommand markCommand = new MarkPresentAllCommand(validTutorialGroup, validDate);
         markCommand.execute(model);
 
-        CommandStack commandStack = CommandStack.getInstance();
+        CommandStack commandStack = new CommandStack();
         commandStack.push(markCommand);
 
-        UndoCommand undoCommand = new UndoCommand();
+        UndoCommand undoCommand = new UndoCommand(commandStack);
         CommandResult result = undoCommand.execute(model);
 
         assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class RedoCommandTest {
+    private CommandStack commandStack;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        commandStack = new CommandStack();
+        model = new ModelManager();
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
+    @Test
+    public void execute_emptyStack() {
+        assertEquals(RedoCommand.MESSAGE_NOTHING_TO_REDO,
+                new RedoCommand(commandStack).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterUndo_redoesCommand() throws Exception {
+        Student student = new StudentBuilder().build();
+        AddStudentCommand addCommand = new AddStudentCommand(student);
+        addCommand.execute(model);
+        commandStack.push(addCommand);
+
+        new UndoCommand(commandStack).execute(model);
+        assertFalse(model.hasStudent(student));
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS,
+                new RedoCommand(commandStack).execute(model).getFeedbackToUser());
+        assertTrue(model.hasStudent(student));
+        assertEquals(1, commandStack.getUndoCount());
+        assertEquals(0, commandStack.getRedoCount());
+
+        // The redone command can be undone again
+        new UndoCommand(commandStack).execute(model);
+        assertFalse(model.hasStudent(student));
+    }
+
+    @Test
+    public void execute_redoFails_reportsErrorAndKeepsCommand() {
+        Command command = new FailingCommandStub();
+        commandStack.pushRedo(command);
+        assertEquals(String.format(RedoCommand.MESSAGE_REDO_FAILED, "failed"),
+                new RedoCommand(commandStack).execute(model).getFeedbackToUser());
+        assertEquals(0, commandStack.getUndoCount());
+        assertEquals(command, commandStack.popRedo());
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand(commandStack);
+        assertEquals(redoCommand, redoCommand);
+        assertEquals(redoCommand, new RedoCommand(new CommandStack()));
+        assertFalse(redoCommand.equals(new UndoCommand(commandStack)));
+        assertFalse(redoCommand.equals(null));
+    }
+
+    private static class FailingCommandStub extends Command {
+        @Override
+        public CommandResult execute(Model model) throws CommandException {
+            throw new CommandException("failed");
+        }
+
+        @Override
+        public boolean isUndoable() {
+            return true;
+        }
+    }
+}
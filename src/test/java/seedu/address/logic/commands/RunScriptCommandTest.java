@@ -0,0 +1,165 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.getTypicalStudents;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.RunScriptCommand.ScriptLine;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class RunScriptCommandTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 8);
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        // Scripts change students in place, so each test gets its own copies of the typical students
+        AddressBook addressBook = new AddressBook();
+        getTypicalStudents().forEach(student -> addressBook.addStudent(new StudentBuilder(student).build()));
+        model = new ModelManager(addressBook, new UserPrefs());
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
+    @Test
+    public void execute_someLinesFail_runsOthersAndReportsFailures() throws Exception {
+        RunScriptCommand command = parseScript(
+                "markat n/" + ALICE.getName() + " dt/" + DATE + " pr/p",
+                "undo",
+                "exit",
+                "deletes n/Nobody Here",
+                "unknown");
+        CommandResult result = command.execute(model);
+        assertFalse(result.isExit());
+
+        String[] feedbackLines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 1, 5, testFolder.resolve("script.txt")),
+                feedbackLines[0]);
+        assertEquals(String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 2,
+                String.format(RunScriptCommand.MESSAGE_NOT_IN_SCRIPT, UndoCommand.COMMAND_WORD)), feedbackLines[1]);
+        assertEquals(String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 3,
+                String.format(RunScriptCommand.MESSAGE_NOT_IN_SCRIPT, ExitCommand.COMMAND_WORD)), feedbackLines[2]);
+        assertEquals(String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 4,
+                DeleteStudentCommand.MESSAGE_NONEXISTENT_STUDENT), feedbackLines[3]);
+        assertEquals(String.format(RunScriptCommand.MESSAGE_LINE_FAILED, 5, MESSAGE_UNKNOWN_COMMAND),
+                feedbackLines[4]);
+        assertEquals(Attendance.PRESENT, getAlice().getAttendance(DATE).get());
+    }
+
+    @Test
+    public void execute_scriptChangingRecords_notifiesListenersOnce() throws Exception {
+        RunScriptCommand command = parseScript(
+                "markat n/" + ALICE.getName() + " dt/" + DATE + " pr/p",
+                "markat n/" + ALICE.getName() + " dt/" + DATE.plusDays(7) + " pr/a");
+        int[] changeCount = {0};
+        getAlice().getAttendanceRecord().addListener((ListChangeListener<AttendanceRecord>) change -> changeCount[0]++);
+
+        command.execute(model);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void undo_executedScript_undoesAllCommands() throws Exception {
+        RunScriptCommand command = parseScript(
+                "markat n/" + ALICE.getName() + " dt/" + DATE + " pr/p",
+                "deletes n/" + ALICE.getName());
+        command.execute(model);
+        assertFalse(findAlice().isPresent());
+
+        assertTrue(command.isUndoable());
+        assertTrue(command.undo(model));
+        assertTrue(getAlice().getAttendance(DATE).isEmpty());
+    }
+
+    @Test
+    public void undo_scriptWithReadOnlyLines_undoesChanges() throws Exception {
+        RunScriptCommand command = parseScript(
+                "markat n/" + ALICE.getName() + " dt/" + DATE + " pr/p",
+                "list");
+        command.execute(model);
+
+        assertTrue(command.isUndoable());
+        assertTrue(command.undo(model));
+        assertTrue(getAlice().getAttendance(DATE).isEmpty());
+    }
+
+    @Test
+    public void undo_lineThatCannotBeUndone_scriptNotUndone() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Command markAlice = new AddressBookParser()
+                .parseCommand("markat n/" + ALICE.getName() + " dt/" + DATE + " pr/p");
+        Command deleteAll = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                model.setAddressBook(new AddressBook());
+                return new CommandResult("");
+            }
+        };
+        RunScriptCommand command = new RunScriptCommand(scriptPath,
+                List.of(ScriptLine.parsed(1, markAlice), ScriptLine.parsed(2, deleteAll)));
+        command.execute(model);
+
+        assertFalse(command.isUndoable());
+        assertFalse(command.undo(model));
+        assertTrue(model.getAddressBook().getStudentList().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        Path scriptPath = testFolder.resolve("script.txt");
+        RunScriptCommand command = new RunScriptCommand(scriptPath, List.of(ScriptLine.parsed(1, new ListCommand())));
+
+        assertEquals(command, command);
+        assertEquals(command,
+                new RunScriptCommand(scriptPath, List.of(ScriptLine.parsed(1, new ListCommand()))));
+        assertNotEquals(command, new RunScriptCommand(scriptPath, List.of()));
+        assertNotEquals(command, new RunScriptCommand(testFolder.resolve("other.txt"),
+                List.of(ScriptLine.parsed(1, new ListCommand()))));
+        assertNotEquals(command, null);
+    }
+
+    private RunScriptCommand parseScript(String... lines) throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        String userInput = RunScriptCommand.COMMAND_WORD + " " + scriptPath;
+        return (RunScriptCommand) new AddressBookParser().parseCommand(userInput);
+    }
+
+    private Student getAlice() {
+        return findAlice().get();
+    }
+
+    private Optional<Student> findAlice() {
+        return model.getAddressBook().getStudentList().stream()
+                .filter(student -> student.getName().equals(ALICE.getName()))
+                .findFirst();
+    }
+}
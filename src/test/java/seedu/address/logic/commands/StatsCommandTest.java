@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void execute_showsMetricsReport() {
+        metrics.record(ListCommand.COMMAND_WORD, Phase.EXECUTE, 1000);
+        CommandResult result = new StatsCommand(metrics).execute(model);
+        String expectedReport = metrics.getReport(model.getAddressBook());
+        assertEquals(expectedReport, result.getFeedbackToUser());
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void isMutating_returnsFalse() {
+        assertFalse(new StatsCommand(metrics).isMutating());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new StatsCommand(metrics).equals(new StatsCommand(metrics)));
+        assertFalse(new StatsCommand(metrics).equals(new ListCommand()));
+    }
+}
@@ -15,36 +15,48 @@ public class UndoCommandTest {
 
     @BeforeEach
     public void setUp() {
-        commandStack = CommandStack.getInstance();
+        commandStack = new CommandStack();
         model = new ModelStub();
-        commandStack.clear();
     }
 
     @Test
     public void execute_emptyStack() {
-        assertEquals("There are no commands to undo",
-                new UndoCommand().execute(model).getFeedbackToUser());
+        assertEquals(UndoCommand.MESSAGE_NOTHING_TO_UNDO,
+                new UndoCommand(commandStack).execute(model).getFeedbackToUser());
     }
 
     @Test
-    public void execute_nonEmptyStack_notUndoableCommand() {
-        Command command = new NotUndoableCommandStub();
+    public void execute_nonEmptyStack_undoFails() {
+        Command command = new UndoableCommandStub(false);
         commandStack.push(command);
-        assertEquals("The previous command is not undoable",
-                new UndoCommand().execute(model).getFeedbackToUser());
+        assertEquals(UndoCommand.MESSAGE_UNDO_FAILED,
+                new UndoCommand(commandStack).execute(model).getFeedbackToUser());
+        assertEquals(0, commandStack.getUndoCount());
+        assertEquals(0, commandStack.getRedoCount());
     }
 
     @Test
     public void execute_nonEmptyStack_undoableCommand() {
-        Command command = new UndoableCommandStub();
+        Command command = new UndoableCommandStub(true);
         commandStack.push(command);
         assertEquals(UndoCommand.MESSAGE_SUCCESS,
-                new UndoCommand().execute(model).getFeedbackToUser());
+                new UndoCommand(commandStack).execute(model).getFeedbackToUser());
+        assertEquals(command, commandStack.popRedo());
+    }
+
+    @Test
+    public void execute_skipsCommandsThatCannotBeUndone() {
+        Command command = new UndoableCommandStub(true);
+        commandStack.push(command);
+        commandStack.push(new ExitCommand());
+        assertEquals(UndoCommand.MESSAGE_SUCCESS,
+                new UndoCommand(commandStack).execute(model).getFeedbackToUser());
+        assertEquals(command, commandStack.popRedo());
     }
 
     @Test
     public void equals() {
-        UndoCommand undoCommand = new UndoCommand();
+        UndoCommand undoCommand = new UndoCommand(commandStack);
 
         // same object -> returns true
         assertEquals(undoCommand, undoCommand);
@@ -56,27 +68,26 @@ public class UndoCommandTest {
         assertFalse(undoCommand.equals(null));
     }
 
-    private class NotUndoableCommandStub extends Command {
-        @Override
-        public CommandResult execute(Model model) {
-            return new CommandResult("Not Undoable command executed");
-        }
+    private static class UndoableCommandStub extends Command {
+        private final boolean canUndo;
 
-        @Override
-        public boolean undo(Model model) {
-            return false;
+        UndoableCommandStub(boolean canUndo) {
+            this.canUndo = canUndo;
         }
-    }
 
-    private class UndoableCommandStub extends Command {
         @Override
         public CommandResult execute(Model model) {
             return new CommandResult("Undoable command executed");
         }
 
         @Override
-        public boolean undo(Model model) {
+        public boolean isUndoable() {
             return true;
         }
+
+        @Override
+        public boolean undo(Model model) {
+            return canUndo;
+        }
     }
 }
@@ -0,0 +1,53 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.model.AddressBook;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void record_sameCommandAndPhase_sharesHistogram() {
+        metrics.record("adds", Phase.PARSE, 1000);
+        metrics.record("adds", Phase.PARSE, 3000);
+        metrics.record("adds", Phase.EXECUTE, 2000);
+
+        assertEquals(2, metrics.getHistogram("adds", Phase.PARSE).get().getCount());
+        assertEquals(1, metrics.getHistogram("adds", Phase.EXECUTE).get().getCount());
+        assertFalse(metrics.getHistogram("adds", Phase.PERSIST).isPresent());
+        assertFalse(metrics.getHistogram("list", Phase.PARSE).isPresent());
+
+        metrics.clear();
+        assertFalse(metrics.getHistogram("adds", Phase.PARSE).isPresent());
+    }
+
+    @Test
+    public void getReport_noCommands_showsSizeOnly() {
+        String report = metrics.getReport(new AddressBook());
+        assertTrue(report.startsWith("Students: 0, assignments: 0, attendance records: 0"));
+        assertTrue(report.endsWith("No commands timed yet."));
+    }
+
+    @Test
+    public void getReport_withCommands_oneRowPerCommandAndPhase() {
+        AddressBook addressBook = getTypicalAddressBook();
+        metrics.record("list", Phase.EXECUTE, 2_000_000);
+        metrics.record("adds", Phase.PARSE, 1_000_000);
+        metrics.record("adds", Phase.PERSIST, 1_000_000);
+
+        String[] lines = metrics.getReport(addressBook).split(System.lineSeparator());
+        assertTrue(lines[0].startsWith("Students: " + addressBook.getStudentList().size() + ","));
+        assertEquals(5, lines.length);
+        assertTrue(lines[2].startsWith("adds") && lines[2].contains("parse") && lines[2].contains("1.000"));
+        assertTrue(lines[3].startsWith("adds") && lines[3].contains("persist"));
+        assertTrue(lines[4].startsWith("list") && lines[4].contains("2.000"));
+    }
+}
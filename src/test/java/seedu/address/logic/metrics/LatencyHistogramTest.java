@@ -0,0 +1,44 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentileNanos_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    public void record_manyDurations_summaryWithinBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50_500, histogram.getMeanNanos());
+        assertEquals(100_000, histogram.getMaxNanos());
+
+        // Percentiles are rounded up to a power of two, but never above the maximum
+        long median = histogram.getPercentileNanos(50);
+        assertTrue(median >= 50_000 && median < 100_000);
+        long p95 = histogram.getPercentileNanos(95);
+        assertTrue(p95 >= 95_000 && p95 <= 100_000);
+        assertEquals(100_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void record_extremeDurations_recorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertTrue(histogram.getPercentileNanos(50) <= 1);
+        assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(100));
+    }
+}
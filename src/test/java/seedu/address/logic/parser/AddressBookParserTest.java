@@ -24,11 +24,14 @@ import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.GetAttendanceByTgCommand;
 import seedu.address.logic.commands.GetAttendanceCommand;
+import seedu.address.logic.commands.GetAttendanceStatsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkAbsentAllCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.MarkPresentAllCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ViewStudentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.student.Name;
@@ -58,6 +61,17 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_attendanceStats() throws Exception {
+        assertEquals(new GetAttendanceStatsCommand(new TutorialGroup("A01")),
+                parser.parseCommand(GetAttendanceStatsCommand.COMMAND_WORD + " tg/A01"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -101,6 +115,11 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand("undo") instanceof seedu.address.logic.commands.UndoCommand);
     }
 
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_markAttendance() throws Exception {
         assertThrows(ParseException.class,
@@ -183,4 +202,12 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals(ListCommand.COMMAND_WORD, AddressBookParser.getCommandWord(ListCommand.COMMAND_WORD));
+        assertEquals(ListCommand.COMMAND_WORD, AddressBookParser.getCommandWord(" \t" + ListCommand.COMMAND_WORD
+                + "\n extra arguments "));
+        assertEquals("", AddressBookParser.getCommandWord("   "));
+    }
 }
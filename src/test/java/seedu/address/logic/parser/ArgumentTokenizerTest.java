@@ -136,6 +136,17 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestTaken() {
+        Prefix t = new Prefix("t");
+        Prefix tgSlash = new Prefix("tg/");
+        String argsString = " tg/T01 tutorial t  last";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, t, tgSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, tgSlash, "T01");
+        assertArgumentPresent(argMultimap, t, "utorial", "last");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.CommandStack;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.metrics.CommandMetrics;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand()));
+    }
+
+    @Test
+    public void register_alias_parsesSameCommand() throws Exception {
+        CommandRegistry registry = new CommandRegistry();
+        Parser<HelpCommand> parser = arguments -> new HelpCommand();
+        registry.register(HelpCommand.COMMAND_WORD, parser);
+        registry.register("?", parser);
+        assertSame(parser, registry.getParser("?").get());
+        assertEquals(List.of("?", HelpCommand.COMMAND_WORD), List.copyOf(registry.getCommandWords()));
+    }
+
+    @Test
+    public void getParser_unknownCommandWord_returnsEmpty() {
+        CommandRegistry registry = CommandRegistry.withDefaultCommands(new CommandStack(), new CommandMetrics());
+        assertTrue(registry.getParser("unknown").isEmpty());
+    }
+
+    @Test
+    public void withDefaultCommands_sharesStatelessParsers() {
+        CommandRegistry first = CommandRegistry.withDefaultCommands(new CommandStack(), new CommandMetrics());
+        CommandRegistry second = CommandRegistry.withDefaultCommands(new CommandStack(), new CommandMetrics());
+        assertSame(first.getParser(AddStudentCommand.COMMAND_WORD).get(),
+                second.getParser(AddStudentCommand.COMMAND_WORD).get());
+
+        // Undo commands work on the stack of their own registry
+        assertNotSame(first.getParser(UndoCommand.COMMAND_WORD).get(),
+                second.getParser(UndoCommand.COMMAND_WORD).get());
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.GetAttendanceStatsCommand;
+import seedu.address.model.student.TutorialGroup;
+
+public class GetAttendanceStatsCommandParserTest {
+
+    private final GetAttendanceStatsCommandParser parser = new GetAttendanceStatsCommandParser();
+    private final TutorialGroup tutorialGroup = new TutorialGroup("A01");
+
+    @Test
+    public void parse_tutorialGroupOnly_success() {
+        assertParseSuccess(parser, " tg/A01", new GetAttendanceStatsCommand(tutorialGroup));
+    }
+
+    @Test
+    public void parse_allFields_success() {
+        assertParseSuccess(parser, " tg/A01 from/2024-01-01 to/2024-04-30 below/82.5",
+                new GetAttendanceStatsCommand(tutorialGroup, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 4, 30),
+                        82.5));
+        assertParseSuccess(parser, " to/2024-04-30 tg/A01",
+                new GetAttendanceStatsCommand(tutorialGroup, LocalDate.MIN, LocalDate.of(2024, 4, 30),
+                        GetAttendanceStatsCommand.DEFAULT_THRESHOLD));
+    }
+
+    @Test
+    public void parse_missingTutorialGroup_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, GetAttendanceStatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " from/2024-01-01", expectedMessage);
+        assertParseFailure(parser, " A01 tg/A01", expectedMessage);
+    }
+
+    @Test
+    public void parse_startAfterEnd_failure() {
+        assertParseFailure(parser, " tg/A01 from/2024-05-01 to/2024-04-30",
+                GetAttendanceStatsCommandParser.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " tg/A01 below/101", ParserUtil.MESSAGE_INVALID_PERCENTAGE);
+        assertParseFailure(parser, " tg/A01 from/2024-13-01",
+                "Invalid date format or invalid date. Please provide a correct date in YYYY-MM-DD format.");
+    }
+
+    @Test
+    public void parse_duplicateFields_failure() {
+        assertParseFailure(parser, " tg/A01 below/50 below/60",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_BELOW));
+    }
+}
@@ -277,6 +277,22 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseDate("invalid-date"));
     }
 
+    @Test
+    public void parsePercentage_validValue_success() throws Exception {
+        assertEquals(0, ParserUtil.parsePercentage("0"));
+        assertEquals(82.5, ParserUtil.parsePercentage(" 82.5 "));
+        assertEquals(100, ParserUtil.parsePercentage("100"));
+    }
+
+    @Test
+    public void parsePercentage_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentage("100.5"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentage("-1"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentage("75%"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentage("NaN"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentage(""));
+    }
+
     @Test
     public void parseAttendance_validValue_success() throws Exception {
         Attendance expectedAttendance = new Attendance("p");
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.RunScriptCommand.ScriptLine;
+
+public class RunScriptCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final RunScriptCommandParser parser = new RunScriptCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + scriptPath,
+                String.format(RunScriptCommandParser.MESSAGE_CANNOT_READ, scriptPath));
+    }
+
+    @Test
+    public void parse_script_skipsBlankAndCommentLines() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of("# Week 1", "list", "", "   ", "unknown"));
+        RunScriptCommand expectedCommand = new RunScriptCommand(scriptPath, List.of(
+                ScriptLine.parsed(2, new ListCommand()),
+                ScriptLine.failed(5, MESSAGE_UNKNOWN_COMMAND)));
+        assertParseSuccess(parser, " " + scriptPath, expectedCommand);
+    }
+}
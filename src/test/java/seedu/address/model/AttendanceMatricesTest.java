@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceMatrix;
+import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+import seedu.address.model.util.ChangeBatch;
+import seedu.address.testutil.StudentBuilder;
+
+public class AttendanceMatricesTest {
+
+    private static final TutorialGroup T01 = new TutorialGroup("T01");
+    private static final LocalDate DATE = LocalDate.of(2024, 10, 21);
+
+    private final Student john = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567L")
+            .withTutorialGroup("T01").withAttendanceRecord(DATE, "p").build();
+    private final Student jane = new StudentBuilder().withName("Jane Doe").withStudentNumber("A1234568M")
+            .withTutorialGroup("T01").build();
+
+    private ObservableList<Student> students;
+    private AttendanceMatrices matrices;
+
+    @BeforeEach
+    public void setUp() {
+        students = FXCollections.observableArrayList(john, jane);
+        matrices = new AttendanceMatrices(students);
+    }
+
+    @Test
+    public void constructor_existingRecords_counted() {
+        assertEquals(1, matrices.get(T01).getPresentCount(DATE));
+        assertTrue(matrices.get(new TutorialGroup("Z99")).getDates().isEmpty());
+    }
+
+    @Test
+    public void attendanceChanges_followedByMatrix() {
+        AttendanceMatrix matrix = matrices.get(T01);
+        john.markAttendance(DATE, "a");
+        jane.markAttendance(DATE.plusDays(1), "p");
+        assertEquals(0, matrix.getPresentCount(DATE));
+        assertEquals(1, matrix.getAbsentCount(DATE));
+        assertEquals(1, matrix.getPresentCount(DATE.plusDays(1)));
+
+        assertEquals(0, matrix.getSessionsPresent(john, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(1, matrix.getSessionsPresent(jane, LocalDate.MIN, LocalDate.MAX));
+
+        john.deleteAttendance(DATE);
+        assertEquals(0, matrix.getAbsentCount(DATE));
+        assertEquals(0, matrix.getSessionsMarked(john, LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void studentRemoved_noLongerCounted() {
+        AttendanceMatrix matrix = matrices.get(T01);
+        students.remove(john);
+        assertTrue(matrix.getDates().isEmpty());
+
+        john.markAttendance(DATE.plusDays(1), "p");
+        assertTrue(matrix.getDates().isEmpty());
+    }
+
+    @Test
+    public void batchedChanges_countedOnceBatchEnds() {
+        AttendanceMatrix matrix = matrices.get(T01);
+        ChangeBatch.run(() -> {
+            john.markAttendance(DATE, "a");
+            jane.markAttendance(DATE, "p");
+            jane.markAttendance(DATE, "a");
+            john.deleteAttendance(DATE);
+        });
+        assertEquals(0, matrix.getPresentCount(DATE));
+        assertEquals(1, matrix.getAbsentCount(DATE));
+    }
+
+    @Test
+    public void sharedStudents_matricesIndependent() {
+        AttendanceMatrices otherMatrices = new AttendanceMatrices(FXCollections.observableArrayList(john));
+        students.remove(john);
+        john.markAttendance(DATE.plusDays(1), "a");
+        assertEquals(1, otherMatrices.get(T01).getAbsentCount(DATE.plusDays(1)));
+        assertEquals(0, matrices.get(T01).getAbsentCount(DATE.plusDays(1)));
+    }
+
+    @Test
+    public void recordReplaced_replacementCounted() {
+        AttendanceMatrix matrix = matrices.get(T01);
+        john.addAttendanceRecord(new AttendanceRecord(DATE, Attendance.ABSENT));
+        assertEquals(0, matrix.getPresentCount(DATE));
+        assertEquals(1, matrix.getAbsentCount(DATE));
+
+        // The replaced record no longer reaches the matrix
+        john.markAttendance(DATE, "p");
+        assertEquals(1, matrix.getPresentCount(DATE));
+    }
+
+    @Test
+    public void lastStudentOfGroupRemoved_matrixDropped() {
+        AttendanceMatrix matrix = matrices.get(T01);
+        students.removeAll(john, jane);
+        assertNotSame(matrix, matrices.get(T01));
+        assertTrue(matrices.get(T01).isEmpty());
+    }
+}
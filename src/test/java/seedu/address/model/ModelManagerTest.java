@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -15,8 +16,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.attendance.AttendanceMatrix;
+import seedu.address.model.attendance.AttendanceRecord;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.TutorialGroup;
@@ -71,6 +75,46 @@ public class ModelManagerTest {
         assertEquals(oldUserPrefs, modelManager.getUserPrefs());
     }
 
+    @Test
+    public void batch_manyChangesToStudent_listenersNotifiedOnceAtEnd() {
+        Student student = new StudentBuilder().build();
+        LocalDate date = LocalDate.of(2024, 1, 8);
+        int[] changeCount = {0};
+        student.getAttendanceRecord().addListener((ListChangeListener<AttendanceRecord>) change -> changeCount[0]++);
+
+        modelManager.batch(() -> {
+            student.markAttendance(date, "p");
+            student.markAttendance(date.plusWeeks(1), "p");
+            student.markAttendance(date, "a");
+            assertEquals(0, changeCount[0]);
+        });
+        assertEquals(1, changeCount[0]);
+        assertEquals(2, student.getAttendanceRecord().size());
+    }
+
+    @Test
+    public void getAttendanceMatrix_followsStudentsAndTheirAttendance() {
+        TutorialGroup tutorialGroup = new TutorialGroup("T01");
+        LocalDate date = LocalDate.of(2024, 1, 8);
+        AttendanceMatrix matrix = modelManager.getAttendanceMatrix(tutorialGroup);
+
+        student1.markAttendance(date, "p");
+        student2.markAttendance(date, "a");
+        student3.markAttendance(date, "p");
+        assertEquals(1, matrix.getPresentCount(date));
+        assertEquals(1, matrix.getAbsentCount(date));
+
+        modelManager.deleteStudent(student2);
+        assertEquals(0, matrix.getAbsentCount(date));
+
+        Student edited = new StudentBuilder(student1).withTutorialGroup("T02").build();
+        modelManager.setStudent(student1, edited);
+        assertTrue(matrix.getDates().isEmpty());
+        assertEquals(2, modelManager.getAttendanceMatrix(new TutorialGroup("T02")).getPresentCount(date));
+
+        assertTrue(modelManager.getAttendanceMatrix(new TutorialGroup("Z99")).getDates().isEmpty());
+    }
+
     @Test
     public void setGuiSettings_nullGuiSettings_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setGuiSettings(null));
@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentIndexTest {
+
+    private static final TutorialGroup T01 = new TutorialGroup("T01");
+    private static final TutorialGroup T02 = new TutorialGroup("T02");
+
+    private final Student john = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567L")
+            .withTutorialGroup("T01").build();
+    private final Student jane = new StudentBuilder().withName("Jane Doe").withStudentNumber("A1234568M")
+            .withTutorialGroup("T01").build();
+    private final Student otherJohn = new StudentBuilder().withName("John Doe").withStudentNumber("A1234569N")
+            .withTutorialGroup("T02").build();
+
+    private ObservableList<Student> students;
+    private StudentIndex studentIndex;
+
+    @BeforeEach
+    public void setUp() {
+        students = FXCollections.observableArrayList(john, jane);
+        studentIndex = new StudentIndex(students);
+    }
+
+    @Test
+    public void constructor_existingStudents_indexesInListOrder() {
+        assertEquals(List.of(john, jane), studentIndex.getByTutorialGroup(T01));
+        assertEquals(List.of(john), studentIndex.getByName(new Name("John Doe")));
+        assertTrue(studentIndex.getByTutorialGroup(T02).isEmpty());
+    }
+
+    @Test
+    public void onChanged_studentAppended_addsToIndex() {
+        students.add(otherJohn);
+        assertEquals(List.of(otherJohn), studentIndex.getByTutorialGroup(T02));
+        assertEquals(List.of(john, otherJohn), studentIndex.getByName(new Name("John Doe")));
+    }
+
+    @Test
+    public void onChanged_studentInsertedAtFront_keepsListOrder() {
+        students.add(0, otherJohn);
+        assertEquals(List.of(otherJohn, john), studentIndex.getByName(new Name("John Doe")));
+    }
+
+    @Test
+    public void onChanged_studentRemoved_removesFromIndex() {
+        students.remove(john);
+        assertEquals(List.of(jane), studentIndex.getByTutorialGroup(T01));
+        assertTrue(studentIndex.getByName(new Name("John Doe")).isEmpty());
+    }
+
+    @Test
+    public void onChanged_studentReplaced_movesBetweenKeys() {
+        Student movedJane = new StudentBuilder(jane).withTutorialGroup("T02").build();
+        students.set(1, movedJane);
+        assertEquals(List.of(john), studentIndex.getByTutorialGroup(T01));
+        assertEquals(List.of(movedJane), studentIndex.getByTutorialGroup(T02));
+    }
+
+    @Test
+    public void onChanged_studentInsertedInMiddle_keepsListOrder() {
+        Student jim = new StudentBuilder().withName("Jim Doe").withStudentNumber("A1234560K")
+                .withTutorialGroup("T01").build();
+        students.add(1, jim);
+        assertEquals(List.of(john, jim, jane), studentIndex.getByTutorialGroup(T01));
+        assertEquals(List.of(jim), studentIndex.getByName(new Name("Jim Doe")));
+    }
+
+    @Test
+    public void onChanged_studentReplacedWithSameKeys_keepsPlace() {
+        students.add(otherJohn);
+        Student editedJohn = new StudentBuilder(john).withPhone("99999999").build();
+        students.set(0, editedJohn);
+        assertEquals(List.of(editedJohn, jane), studentIndex.getByTutorialGroup(T01));
+        assertEquals(List.of(editedJohn, otherJohn), studentIndex.getByName(new Name("John Doe")));
+    }
+
+    @Test
+    public void onChanged_studentsMovedToOtherGroup_insertedInListOrder() {
+        Student lastInT02 = new StudentBuilder().withName("Jim Doe").withStudentNumber("A1234560K")
+                .withTutorialGroup("T02").build();
+        students.addAll(otherJohn, lastInT02);
+        Student movedJane = new StudentBuilder(jane).withTutorialGroup("T02").build();
+        Student movedJohn = new StudentBuilder(john).withTutorialGroup("T02").build();
+
+        students.set(1, movedJane);
+        assertEquals(List.of(movedJane, otherJohn, lastInT02), studentIndex.getByTutorialGroup(T02));
+        students.set(0, movedJohn);
+        assertEquals(List.of(movedJohn, movedJane, otherJohn, lastInT02), studentIndex.getByTutorialGroup(T02));
+        assertTrue(studentIndex.getByTutorialGroup(T01).isEmpty());
+        assertEquals(List.of(movedJohn, otherJohn), studentIndex.getByName(new Name("John Doe")));
+    }
+
+    @Test
+    public void onChanged_listReplaced_rebuildsIndex() {
+        students.setAll(otherJohn);
+        assertTrue(studentIndex.getByTutorialGroup(T01).isEmpty());
+        assertEquals(List.of(otherJohn), studentIndex.getByName(new Name("John Doe")));
+    }
+
+    @Test
+    public void onChanged_listSorted_keepsListOrder() {
+        students.add(otherJohn);
+        FXCollections.reverse(students);
+        assertEquals(List.of(otherJohn, john), studentIndex.getByName(new Name("John Doe")));
+    }
+}
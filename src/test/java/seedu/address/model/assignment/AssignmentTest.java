@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.TypicalAssignments.MATH_ASSIGNMENT_SUBMITTED;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -122,6 +124,18 @@ public class AssignmentTest {
         assertEquals(Assignment.State.LATE, lateAssignment.getState());
     }
 
+    @Test
+    void getState_givenDay_dependsOnDeadline() {
+        Deadline deadline = new Deadline("2025-12-01");
+        Assignment assignment = new Assignment(ORIGINAL_NAME, deadline, ORIGINAL_SUBMISSION_STATUS, ORIGINAL_GRADE);
+        assertEquals(Assignment.State.PENDING, assignment.getState(LocalDate.of(2025, 11, 30)));
+        assertEquals(Assignment.State.LATE, assignment.getState(LocalDate.of(2025, 12, 1)));
+
+        Assignment submittedAssignment = new Assignment(ORIGINAL_NAME, deadline,
+                NEW_SUBMISSION_STATUS, ORIGINAL_GRADE);
+        assertEquals(Assignment.State.SUBMITTED, submittedAssignment.getState(LocalDate.of(2025, 12, 1)));
+    }
+
     @Test
     void getLabelName_returnsCorrectLabelName() {
         // Test label name with grade
@@ -2,6 +2,7 @@ package seedu.address.model.assignment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -57,4 +58,11 @@ public class DeadlineTest {
         assertFalse(deadline1.equals(null)); // null
         assertFalse(deadline1.equals("2024-12-01")); // different type
     }
+
+    @Test
+    public void of_sameDate_returnsSharedInstance() {
+        assertSame(Deadline.of("2024-01-15"), Deadline.of("2024-01-15"));
+        assertEquals(new Deadline("2024-01-15"), Deadline.of("2024-01-15"));
+        assertThrows(IllegalArgumentException.class, () -> Deadline.of("2024-02-30"));
+    }
 }
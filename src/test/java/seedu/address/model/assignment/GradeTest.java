@@ -2,6 +2,8 @@ package seedu.address.model.assignment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -82,4 +84,20 @@ public class GradeTest {
         assertFalse(grade1.equals(null)); // null
         assertFalse(grade1.equals("85")); // different type
     }
+
+    @Test
+    public void of_validGrade_sameValueAsConstructor() {
+        String[] grades = {"NULL", "0", "85", "85.0", "85.5", "100", "100.00", "9."};
+        for (String grade : grades) {
+            assertEquals(new Grade(grade), Grade.of(grade));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Grade.of("101"));
+    }
+
+    @Test
+    public void of_wholeNumberOrNull_returnsSharedInstance() {
+        assertSame(Grade.getDefault(), Grade.of("NULL"));
+        assertSame(Grade.of("85"), Grade.of("85.0"));
+        assertNotSame(Grade.of("85.5"), Grade.of("85.5"));
+    }
 }
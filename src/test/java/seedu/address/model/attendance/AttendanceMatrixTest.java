@@ -0,0 +1,167 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class AttendanceMatrixTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2024, 1, 8);
+    private static final LocalDate SECOND = LocalDate.of(2024, 1, 15);
+    private static final LocalDate THIRD = LocalDate.of(2024, 1, 22);
+
+    private final Student alice = new StudentBuilder().withName("Alice").withStudentNumber("A1234567L").build();
+    private final Student bob = new StudentBuilder().withName("Bob").withStudentNumber("A1234568M").build();
+    private final Student carl = new StudentBuilder().withName("Carl").withStudentNumber("A1234569N").build();
+    private final AttendanceMatrix matrix = new AttendanceMatrix();
+
+    @BeforeEach
+    public void setUp() {
+        matrix.addStudent(alice);
+        matrix.addStudent(bob);
+        matrix.addStudent(carl);
+        matrix.set(alice, SECOND, Attendance.PRESENT);
+        matrix.set(alice, FIRST, Attendance.PRESENT);
+        matrix.set(bob, FIRST, Attendance.ABSENT);
+        matrix.set(bob, SECOND, Attendance.PRESENT);
+        matrix.set(carl, FIRST, Attendance.ABSENT);
+    }
+
+    @Test
+    public void set_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> matrix.set(null, FIRST, Attendance.PRESENT));
+        assertThrows(NullPointerException.class, () -> matrix.set(alice, null, Attendance.PRESENT));
+        assertThrows(NullPointerException.class, () -> matrix.set(alice, FIRST, null));
+    }
+
+    @Test
+    public void set_studentNotInMatrix_throwsIllegalArgumentException() {
+        Student other = new StudentBuilder(alice).build();
+        assertThrows(IllegalArgumentException.class, () -> matrix.set(other, FIRST, Attendance.PRESENT));
+    }
+
+    @Test
+    public void getDates_sortedAndDistinct() {
+        assertEquals(List.of(FIRST, SECOND), List.copyOf(matrix.getDates()));
+        assertEquals(List.of(SECOND), List.copyOf(matrix.getDates(FIRST.plusDays(1), THIRD)));
+        assertEquals(List.of(), List.copyOf(new AttendanceMatrix().getDates()));
+        assertThrows(UnsupportedOperationException.class, () -> matrix.getDates().clear());
+    }
+
+    @Test
+    public void sessionCounts() {
+        assertEquals(1, matrix.getPresentCount(FIRST));
+        assertEquals(2, matrix.getAbsentCount(FIRST));
+        assertEquals(0, matrix.getUnmarkedCount(FIRST));
+
+        assertEquals(2, matrix.getPresentCount(SECOND));
+        assertEquals(0, matrix.getAbsentCount(SECOND));
+        assertEquals(1, matrix.getUnmarkedCount(SECOND));
+
+        assertEquals(0, matrix.getPresentCount(THIRD));
+        assertEquals(3, matrix.getUnmarkedCount(THIRD));
+    }
+
+    @Test
+    public void set_existingAttendance_replaced() {
+        matrix.set(bob, FIRST, Attendance.PRESENT);
+        assertEquals(2, matrix.getPresentCount(FIRST));
+        assertEquals(1, matrix.getAbsentCount(FIRST));
+        assertEquals(Optional.of(Attendance.PRESENT), matrix.getAttendance(bob, FIRST));
+    }
+
+    @Test
+    public void clear_lastRecordOfDate_dropsDate() {
+        matrix.clear(alice, SECOND);
+        matrix.clear(bob, SECOND);
+        matrix.clear(carl, THIRD);
+        assertEquals(List.of(FIRST), List.copyOf(matrix.getDates()));
+        assertEquals(3, matrix.getUnmarkedCount(SECOND));
+    }
+
+    @Test
+    public void getAttendanceRate_countsOnlyMarkedStudents() {
+        assertEquals(OptionalDouble.of(1.0 / 3), matrix.getAttendanceRate(FIRST));
+        assertEquals(OptionalDouble.of(1.0), matrix.getAttendanceRate(SECOND));
+        assertEquals(OptionalDouble.empty(), matrix.getAttendanceRate(THIRD));
+    }
+
+    @Test
+    public void getAbsentStudents() {
+        assertEquals(Set.of(bob, carl), Set.copyOf(matrix.getAbsentStudents(FIRST)));
+        assertEquals(List.of(), matrix.getAbsentStudents(SECOND));
+        assertEquals(List.of(), matrix.getAbsentStudents(THIRD));
+    }
+
+    @Test
+    public void getAttendance() {
+        assertEquals(Optional.of(Attendance.PRESENT), matrix.getAttendance(alice, FIRST));
+        assertEquals(Optional.of(Attendance.ABSENT), matrix.getAttendance(bob, FIRST));
+        assertEquals(Optional.empty(), matrix.getAttendance(carl, SECOND));
+        assertEquals(Optional.empty(), matrix.getAttendance(alice, THIRD));
+    }
+
+    @Test
+    public void studentCounts_allDates() {
+        assertEquals(2, matrix.getSessionsPresent(alice, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(2, matrix.getSessionsMarked(alice, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(1, matrix.getSessionsPresent(bob, FIRST, SECOND));
+        assertEquals(2, matrix.getSessionsMarked(bob, FIRST, SECOND));
+
+        matrix.set(bob, FIRST, Attendance.PRESENT);
+        matrix.set(carl, FIRST, Attendance.ABSENT);
+        matrix.clear(alice, SECOND);
+        assertEquals(2, matrix.getSessionsPresent(bob, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(0, matrix.getSessionsPresent(carl, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(1, matrix.getSessionsMarked(carl, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(1, matrix.getSessionsMarked(alice, LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void studentCounts_dateRange_inclusive() {
+        matrix.set(carl, THIRD, Attendance.PRESENT);
+
+        assertEquals(1, matrix.getSessionsPresent(bob, SECOND, THIRD));
+        assertEquals(1, matrix.getSessionsMarked(bob, SECOND, THIRD));
+        assertEquals(1, matrix.getSessionsPresent(alice, LocalDate.MIN, FIRST));
+        assertEquals(1, matrix.getSessionsPresent(carl, SECOND, LocalDate.MAX));
+        assertEquals(0, matrix.getSessionsMarked(carl, SECOND, SECOND));
+        assertEquals(0, matrix.getSessionsMarked(alice, THIRD, FIRST));
+    }
+
+    @Test
+    public void removeStudent_rowReusedByNextStudent() {
+        matrix.clear(bob, FIRST);
+        matrix.clear(bob, SECOND);
+        matrix.removeStudent(bob);
+        assertEquals(2, matrix.getStudentCount());
+        assertEquals(1, matrix.getUnmarkedCount(SECOND));
+
+        Student dave = new StudentBuilder().withName("Dave").withStudentNumber("A1234560K").build();
+        matrix.addStudent(dave);
+        assertEquals(Optional.empty(), matrix.getAttendance(dave, FIRST));
+        assertEquals(0, matrix.getSessionsMarked(dave, LocalDate.MIN, LocalDate.MAX));
+        matrix.set(dave, THIRD, Attendance.ABSENT);
+        assertEquals(List.of(dave), matrix.getAbsentStudents(THIRD));
+        assertFalse(matrix.isEmpty());
+    }
+
+    @Test
+    public void isEmpty() {
+        assertTrue(new AttendanceMatrix().isEmpty());
+        assertFalse(matrix.isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.attendance;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,4 +42,13 @@ public class AttendanceTest {
         // Valid attendances
         assertTrue(Attendance.isValidAttendance("p")); // 'p
     }
+
+    @Test
+    public void of_validAttendance_returnsSharedInstance() {
+        assertSame(Attendance.PRESENT, Attendance.of("p"));
+        assertSame(Attendance.ABSENT, Attendance.of("a"));
+        assertEquals(new Attendance("p"), Attendance.of("p"));
+        assertThrows(IllegalArgumentException.class, () -> Attendance.of("x"));
+        assertThrows(NullPointerException.class, () -> Attendance.of(null));
+    }
 }
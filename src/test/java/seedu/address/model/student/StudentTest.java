@@ -34,6 +34,7 @@ import seedu.address.model.assignment.AssignmentName;
 import seedu.address.model.assignment.AssignmentQuery;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.attendance.AttendanceRecord;
+import seedu.address.model.util.ChangeBatch;
 import seedu.address.testutil.AssignmentBuilder;
 import seedu.address.testutil.StudentBuilder;
 
@@ -283,4 +284,102 @@ public class StudentTest {
         assertEquals(STATUS_Y, updatedAssignment.getSubmissionStatus());
         assertEquals(GRADE_90, updatedAssignment.getGrade());
     }
+
+    @Test
+    void addAssignment_duplicateName_returnsFalse() {
+        Assignment sameName = new AssignmentBuilder(MATH_ASSIGNMENT_SUBMITTED).withGrade("10").build();
+        assertFalse(student.addAssignment(sameName));
+        assertEquals(2, student.getAssignments().size());
+        assertEquals(MATH_ASSIGNMENT_SUBMITTED, student.getAssignment(ASSIGNMENT_NAME_A));
+    }
+
+    @Test
+    void editAssignment_existingAssignment_updatesLookup() {
+        AssignmentQuery query = new AssignmentQuery(null, DEADLINE_C, STATUS_Y, GRADE_90);
+        student.editAssignment(ASSIGNMENT_NAME_A, query);
+        assertEquals(student.getAssignments().get(0), student.getAssignment(ASSIGNMENT_NAME_A));
+        assertEquals(GRADE_90, student.getAssignment(ASSIGNMENT_NAME_A).getGrade());
+    }
+
+    @Test
+    void deleteAssignment_thenAddAgain_success() {
+        student.deleteAssignment(ASSIGNMENT_NAME_A);
+        assertNull(student.getAssignment(ASSIGNMENT_NAME_A));
+        assertTrue(student.addAssignment(MATH_ASSIGNMENT_SUBMITTED));
+        assertEquals(List.of(SCIENCE_ASSIGNMENT_GRADED, MATH_ASSIGNMENT_SUBMITTED), student.getAssignments());
+    }
+
+    @Test
+    void getAssignments_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> student.getAssignments().clear());
+    }
+
+    @Test
+    void markAttendance_outOfOrderDates_keptInDateOrder() {
+        Student student = new StudentBuilder().build();
+        student.markAttendance(LocalDate.of(2024, 10, 23), "a");
+        student.markAttendance(LocalDate.of(2024, 10, 21), "p");
+        student.markAttendance(LocalDate.of(2024, 10, 22), "p");
+        student.markAttendance(LocalDate.of(2024, 10, 21), "a");
+
+        List<AttendanceRecord> attendanceRecords = student.getAttendanceRecord();
+        assertEquals(3, attendanceRecords.size());
+        assertEquals(LocalDate.of(2024, 10, 21), attendanceRecords.get(0).getDate());
+        assertEquals(new Attendance("a"), attendanceRecords.get(0).getAttendance());
+        assertEquals(LocalDate.of(2024, 10, 22), attendanceRecords.get(1).getDate());
+        assertEquals(LocalDate.of(2024, 10, 23), attendanceRecords.get(2).getDate());
+    }
+
+    @Test
+    void getAttendance_recordedAndUnrecordedDates() {
+        Student student = new StudentBuilder().build();
+        student.markAttendance(LocalDate.of(2024, 10, 22), "p");
+        assertEquals(new Attendance("p"), student.getAttendance(LocalDate.of(2024, 10, 22)).get());
+        assertTrue(student.getAttendance(LocalDate.of(2024, 10, 23)).isEmpty());
+    }
+
+    @Test
+    void deleteAttendance_middleRecord_keepsOtherRecords() {
+        Student student = new StudentBuilder().build();
+        student.markAttendance(LocalDate.of(2024, 10, 21), "p");
+        student.markAttendance(LocalDate.of(2024, 10, 22), "a");
+        student.markAttendance(LocalDate.of(2024, 10, 23), "p");
+
+        student.deleteAttendance(LocalDate.of(2024, 10, 22));
+        student.deleteAttendance(LocalDate.of(2024, 10, 30));
+
+        assertEquals("2024-10-21: Present\n2024-10-23: Present\n", student.getAttendanceRecordsString());
+    }
+
+    @Test
+    void addAttendanceRecord_sameDate_replacesRecord() {
+        Student student = new StudentBuilder().build();
+        student.addAttendanceRecord(new AttendanceRecord(LocalDate.of(2024, 10, 22), new Attendance("p")));
+        student.addAttendanceRecord(new AttendanceRecord(LocalDate.of(2024, 10, 22), new Attendance("a")));
+        assertEquals("2024-10-22: Absent\n", student.getAttendanceRecordsString());
+    }
+
+    @Test
+    void getAttendanceRecord_modifyList_throwsUnsupportedOperationException() {
+        Student student = new StudentBuilder().build();
+        assertThrows(UnsupportedOperationException.class, () -> student.getAttendanceRecord()
+                .add(new AttendanceRecord(LocalDate.of(2024, 10, 22), new Attendance("p"))));
+    }
+
+    @Test
+    void addListener_studentChanged_notifiedOncePerChangeOrBatch() {
+        Student student = new StudentBuilder().build();
+        int[] callCount = {0};
+        student.addListener(observable -> callCount[0]++);
+
+        student.markAttendance(LocalDate.of(2024, 10, 1), "p");
+        student.addAssignment(MATH_ASSIGNMENT_SUBMITTED);
+        assertEquals(2, callCount[0]);
+
+        ChangeBatch.run(() -> {
+            student.markAttendance(LocalDate.of(2024, 10, 1), "a");
+            student.deleteAttendance(LocalDate.of(2024, 10, 1));
+        });
+        assertEquals(3, callCount[0]);
+    }
 }
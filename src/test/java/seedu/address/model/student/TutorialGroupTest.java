@@ -1,6 +1,7 @@
 package seedu.address.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -55,4 +56,12 @@ public class TutorialGroupTest {
         // different values -> returns false
         assertFalse(tutorialGroup.equals(new TutorialGroup("G02")));
     }
+
+    @Test
+    public void of_sameGroupInAnyCase_returnsSharedInstance() {
+        assertSame(TutorialGroup.of("T01"), TutorialGroup.of("t01"));
+        assertTrue(new TutorialGroup("T01").equals(TutorialGroup.of("T01")));
+        assertThrows(IllegalArgumentException.class, () -> TutorialGroup.of("T1"));
+        assertThrows(NullPointerException.class, () -> TutorialGroup.of(null));
+    }
 }
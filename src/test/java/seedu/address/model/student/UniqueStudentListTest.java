@@ -0,0 +1,147 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CHARLIE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.student.exceptions.DuplicateStudentException;
+import seedu.address.model.student.exceptions.StudentNotFoundException;
+import seedu.address.testutil.StudentBuilder;
+
+public class UniqueStudentListTest {
+
+    private final UniqueStudentList uniqueStudentList = new UniqueStudentList();
+
+    @Test
+    public void contains_studentNotInList_returnsFalse() {
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_studentWithSameStudentNumberInList_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").withPhone("99998888").build();
+        assertTrue(uniqueStudentList.contains(editedAlice));
+    }
+
+    @Test
+    public void add_duplicateStudent_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(0, ALICE));
+    }
+
+    @Test
+    public void setStudent_targetNotInList_throwsStudentNotFoundException() {
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.setStudent(ALICE, ALICE));
+    }
+
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_updatesIndex() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertEquals(Collections.singletonList(BOB), uniqueStudentList.asUnmodifiableObservableList());
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
+    @Test
+    public void setStudent_editedStudentHasNonUniqueIdentity_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, BOB));
+    }
+
+    @Test
+    public void remove_studentDoesNotExist_throwsStudentNotFoundException() {
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(ALICE));
+    }
+
+    @Test
+    public void remove_existingStudent_returnsIndexAndRemovesStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        assertEquals(1, uniqueStudentList.remove(BOB));
+        assertFalse(uniqueStudentList.contains(BOB));
+        assertEquals(Collections.singletonList(ALICE), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setStudentAndRemove_studentsMovedSinceAdded_findsStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(CHARLIE);
+
+        // Students move when others before them are added or removed, away from where they were added
+        uniqueStudentList.remove(ALICE);
+        uniqueStudentList.add(0, ALICE);
+        uniqueStudentList.remove(BOB);
+        assertEquals(1, uniqueStudentList.remove(CHARLIE));
+
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(0, CHARLIE);
+        Student editedBob = new StudentBuilder(BOB).withPhone("99999999").build();
+        uniqueStudentList.setStudent(BOB, editedBob);
+        assertEquals(Arrays.asList(CHARLIE, ALICE, editedBob), uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueStudentList.remove(editedBob));
+    }
+
+    @Test
+    public void removeAll_clearsIndex() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.removeAll();
+        assertFalse(uniqueStudentList.contains(ALICE));
+        uniqueStudentList.add(ALICE);
+    }
+
+    @Test
+    public void setStudents_list_replacesOwnListWithProvidedList() {
+        uniqueStudentList.add(ALICE);
+        List<Student> studentList = Arrays.asList(BOB, CHARLIE);
+        uniqueStudentList.setStudents(studentList);
+        assertEquals(studentList, uniqueStudentList.asUnmodifiableObservableList());
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(CHARLIE));
+    }
+
+    @Test
+    public void setStudents_listWithDuplicateStudents_throwsDuplicateStudentException() {
+        uniqueStudentList.add(CHARLIE);
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, BOB, ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
+
+        // a rejected replacement leaves the existing list untouched
+        assertEquals(Collections.singletonList(CHARLIE), uniqueStudentList.asUnmodifiableObservableList());
+        assertTrue(uniqueStudentList.contains(CHARLIE));
+    }
+
+    @Test
+    public void setStudents_uniqueStudentList_copiesIndex() {
+        UniqueStudentList replacement = new UniqueStudentList();
+        replacement.add(BOB);
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudents(replacement);
+        assertEquals(replacement, uniqueStudentList);
+        assertTrue(uniqueStudentList.contains(BOB));
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        uniqueStudentList.add(ALICE);
+        Iterator<Student> iterator = uniqueStudentList.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<List<String>> addedPerChange = new ArrayList<>();
+
+    @Test
+    public void add_noBatch_changeReportedImmediately() {
+        list.addListener(this::recordAdded);
+        list.add("a");
+        list.add("b");
+        assertEquals(List.of(List.of("a"), List.of("b")), addedPerChange);
+    }
+
+    @Test
+    public void add_inBatch_reportedAsOneChangeAtEnd() {
+        list.add("x");
+        list.addListener(this::recordAdded);
+        ChangeBatch.run(() -> {
+            list.add("a");
+            list.remove("x");
+            list.add("b");
+            assertEquals(List.of(), addedPerChange);
+        });
+        assertEquals(List.of(List.of("a", "b")), addedPerChange);
+        assertEquals(List.of("a", "b"), list);
+
+        // The next batch reports its own change
+        ChangeBatch.run(() -> list.add("c"));
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), addedPerChange);
+    }
+
+    private void recordAdded(ListChangeListener.Change<? extends String> change) {
+        List<String> added = new ArrayList<>();
+        while (change.next()) {
+            added.addAll(change.getAddedSubList());
+        }
+        addedPerChange.add(added);
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ChangeBatchTest {
+
+    private final List<String> notified = new ArrayList<>();
+    private final Object source = new Object();
+    private final Object otherSource = new Object();
+
+    @Test
+    public void notifyChanged_noBatch_notifiesImmediately() {
+        ChangeBatch.notifyChanged(source, () -> notified.add("a"));
+        assertEquals(List.of("a"), notified);
+    }
+
+    @Test
+    public void run_sameSourceChangedTwice_notifiesOnceAtEnd() {
+        ChangeBatch.run(() -> {
+            assertTrue(ChangeBatch.isOpen());
+            ChangeBatch.notifyChanged(source, () -> notified.add("a"));
+            ChangeBatch.notifyChanged(otherSource, () -> notified.add("b"));
+            ChangeBatch.notifyChanged(source, () -> notified.add("c"));
+            assertTrue(notified.isEmpty());
+        });
+        assertFalse(ChangeBatch.isOpen());
+        assertEquals(List.of("a", "b"), notified);
+    }
+
+    @Test
+    public void run_nestedBatch_notifiesWhenOutermostEnds() {
+        ChangeBatch.run(() -> {
+            ChangeBatch.run(() -> ChangeBatch.notifyChanged(source, () -> notified.add("a")));
+            assertTrue(notified.isEmpty());
+        });
+        assertEquals(List.of("a"), notified);
+    }
+
+    @Test
+    public void run_changesThrow_stillNotifies() {
+        assertThrows(IllegalStateException.class, () -> ChangeBatch.run(() -> {
+            ChangeBatch.notifyChanged(source, () -> notified.add("a"));
+            throw new IllegalStateException();
+        }));
+        assertFalse(ChangeBatch.isOpen());
+        assertEquals(List.of("a"), notified);
+    }
+
+    @Test
+    public void run_notificationsThrow_sendsAllAndRethrowsFirst() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalStateException second = new IllegalStateException("second");
+        Runnable changes = () -> {
+            ChangeBatch.notifyChanged(source, () -> {
+                throw first;
+            });
+            ChangeBatch.notifyChanged(otherSource, () -> {
+                throw second;
+            });
+            ChangeBatch.notifyChanged(new Object(), () -> notified.add("c"));
+        };
+        IllegalStateException thrown = Assertions.assertThrows(IllegalStateException.class, () ->
+                ChangeBatch.run(changes));
+        assertSame(first, thrown);
+        assertArrayEquals(new Throwable[] {second}, first.getSuppressed());
+        assertEquals(List.of("c"), notified);
+    }
+
+    @Test
+    public void run_changesAndNotificationThrow_rethrowsChangesFailure() {
+        IllegalStateException notificationFailure = new IllegalStateException("notification");
+        Runnable changes = () -> {
+            ChangeBatch.notifyChanged(source, () -> {
+                throw notificationFailure;
+            });
+            throw new IllegalArgumentException();
+        };
+        IllegalArgumentException thrown = Assertions.assertThrows(IllegalArgumentException.class, () ->
+                ChangeBatch.run(changes));
+        assertArrayEquals(new Throwable[] {notificationFailure}, thrown.getSuppressed());
+    }
+
+    @Test
+    public void run_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ChangeBatch.run(null));
+    }
+}
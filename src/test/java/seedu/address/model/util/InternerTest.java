@@ -0,0 +1,25 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_equalKeys_sameInstance() {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new);
+        StringBuilder first = interner.intern("a");
+        assertSame(first, interner.intern(new String("a")));
+        assertNotSame(first, interner.intern("b"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String, String>(key -> key).intern(null));
+    }
+}
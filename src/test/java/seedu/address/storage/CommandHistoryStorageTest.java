@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCommands_missingFile_emptyResult() {
+        CommandHistoryStorage storage = new CommandHistoryStorage(testFolder.resolve("history.txt"), 3);
+        assertEquals(List.of(), storage.readCommands());
+    }
+
+    @Test
+    public void appendInBackground_commands_readBackInOrder() {
+        Path filePath = testFolder.resolve("sub").resolve("history.txt");
+        CommandHistoryStorage storage = new CommandHistoryStorage(filePath, 3);
+        storage.appendInBackground("list");
+        storage.appendInBackground("find n/Alex\nYeoh");
+        storage.flush();
+        assertEquals(List.of("list", "find n/Alex Yeoh"), new CommandHistoryStorage(filePath, 3).readCommands());
+    }
+
+    @Test
+    public void appendInBackground_manyCommands_keepsMostRecent() throws Exception {
+        Path filePath = testFolder.resolve("history.txt");
+        CommandHistoryStorage storage = new CommandHistoryStorage(filePath, 2);
+        for (int i = 1; i <= 5; i++) {
+            storage.appendInBackground("command" + i);
+        }
+        storage.flush();
+
+        // The fifth command is more than twice the capacity, so the file is cut down to the last two
+        assertEquals(List.of("command4", "command5"), Files.readAllLines(filePath));
+        assertEquals(List.of("command4", "command5"), new CommandHistoryStorage(filePath, 2).readCommands());
+    }
+}
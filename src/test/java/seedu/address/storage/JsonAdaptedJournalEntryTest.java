@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.CHARLIE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class JsonAdaptedJournalEntryTest {
+
+    @Test
+    public void applyTo_put_insertsAtIndex() throws Exception {
+        List<Student> students = new ArrayList<>(List.of(ALICE, CHARLIE));
+        JsonAdaptedJournalEntry.put(1, BOB).applyTo(students);
+        assertEquals(List.of(ALICE, BOB, CHARLIE), students);
+    }
+
+    @Test
+    public void applyTo_putExistingStudent_replacesStudent() throws Exception {
+        List<Student> students = new ArrayList<>(List.of(ALICE, BOB));
+        Student editedBob = new StudentBuilder(BOB).withPhone("99999999").build();
+        JsonAdaptedJournalEntry.put(0, editedBob).applyTo(students);
+        assertEquals(List.of(editedBob, ALICE), students);
+    }
+
+    @Test
+    public void applyTo_putPastEnd_appends() throws Exception {
+        List<Student> students = new ArrayList<>(List.of(ALICE));
+        JsonAdaptedJournalEntry.put(5, BOB).applyTo(students);
+        assertEquals(List.of(ALICE, BOB), students);
+    }
+
+    @Test
+    public void applyTo_update_replacesStudentInPlace() throws Exception {
+        List<Student> students = new ArrayList<>(List.of(ALICE, BOB, CHARLIE));
+        Student editedBob = new StudentBuilder(BOB).withPhone("99999999").build();
+        JsonAdaptedJournalEntry.update(editedBob).applyTo(students);
+        assertEquals(List.of(ALICE, editedBob, CHARLIE), students);
+    }
+
+    @Test
+    public void applyTo_updateUnknownStudent_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.update(BOB);
+        assertThrows(IllegalValueException.class, () -> entry.applyTo(new ArrayList<>(List.of(ALICE))));
+    }
+
+    @Test
+    public void applyTo_remove_removesStudent() throws Exception {
+        List<Student> students = new ArrayList<>(List.of(ALICE, BOB));
+        JsonAdaptedJournalEntry.remove(ALICE.getStudentNumber()).applyTo(students);
+        assertEquals(List.of(BOB), students);
+    }
+
+    @Test
+    public void applyTo_unknownOperation_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry("move", ALICE.getStudentNumber().value, 0, null);
+        assertThrows(IllegalValueException.class, () -> entry.applyTo(new ArrayList<>()));
+    }
+
+    @Test
+    public void applyTo_invalidStudentNumber_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry("remove", "invalid", null, null);
+        assertThrows(IllegalValueException.class, () -> entry.applyTo(new ArrayList<>()));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.BOB;
 import static seedu.address.testutil.TypicalStudents.CHARLIE;
@@ -9,15 +10,22 @@ import static seedu.address.testutil.TypicalStudents.DIDDY;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
 
 public class JsonStudentAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonStudentAddressBookStorageTest");
@@ -113,4 +121,175 @@ public class JsonStudentAddressBookStorageTest {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
 
+    @Test
+    public void saveAddressBook_changedStudent_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("JournalledAddressBook.json");
+        Path journalFilePath = JsonStudentAddressBookStorage.getJournalFilePath(filePath);
+        Student student = new StudentBuilder().withStudentNumber("A1234567L").build();
+        AddressBook original = new AddressBook();
+        original.addStudent(student);
+        JsonStudentAddressBookStorage storage = new JsonStudentAddressBookStorage(filePath);
+
+        // first save writes the data file in full
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+
+        // nothing changed -> nothing written
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+
+        // a header, then one line per save
+        student.markAttendance(LocalDate.of(2024, 10, 1), "p");
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        assertEquals(original, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_oneStudentChanged_journalsOnlyThatStudent() throws Exception {
+        Path filePath = testFolder.resolve("JournalledAddressBook.json");
+        Path journalFilePath = JsonStudentAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 50; i++) {
+            original.addStudent(new StudentBuilder().withName("Student " + i)
+                    .withStudentNumber(String.format("A%07dL", i)).build());
+        }
+        JsonStudentAddressBookStorage storage = new JsonStudentAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.getStudentList().get(20).markAttendance(LocalDate.of(2024, 10, 1), "p");
+        storage.saveAddressBook(original);
+        List<String> lines = Files.readAllLines(journalFilePath);
+        assertEquals(1, JsonUtil.fromJsonString(lines.get(lines.size() - 1), JsonAdaptedJournalEntry[].class).length);
+
+        assertEquals(original, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_removeAndReinsertStudent_preservesOrder() throws Exception {
+        Path filePath = testFolder.resolve("JournalledAddressBook.json");
+        Student first = new StudentBuilder().withName("First").withStudentNumber("A1234567L").build();
+        Student second = new StudentBuilder().withName("Second").withStudentNumber("A1234568M").build();
+        Student third = new StudentBuilder().withName("Third").withStudentNumber("A1234569N").build();
+        AddressBook original = new AddressBook();
+        original.addStudent(first);
+        original.addStudent(second);
+        original.addStudent(third);
+        JsonStudentAddressBookStorage storage = new JsonStudentAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.removeStudent(second);
+        storage.saveAddressBook(original);
+        assertEquals(original, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+
+        original.addStudent(1, second);
+        storage.saveAddressBook(original);
+        assertEquals(original, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+
+        Student editedFirst = new StudentBuilder(first).withPhone("99999999").build();
+        original.setStudent(first, editedFirst);
+        storage.saveAddressBook(original);
+        assertEquals(original, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoDataFile() throws Exception {
+        Path filePath = testFolder.resolve("JournalledAddressBook.json");
+        Path journalFilePath = JsonStudentAddressBookStorage.getJournalFilePath(filePath);
+        Student student = new StudentBuilder().withStudentNumber("A1234567L").build();
+        AddressBook original = new AddressBook();
+        original.addStudent(student);
+        JsonStudentAddressBookStorage storage = new JsonStudentAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < JsonStudentAddressBookStorage.COMPACTION_THRESHOLD; i++) {
+            student.markAttendance(date.plusDays(i), "p");
+            storage.saveAddressBook(original);
+        }
+        assertEquals(JsonStudentAddressBookStorage.COMPACTION_THRESHOLD + 1,
+                Files.readAllLines(journalFilePath).size());
+
+        student.markAttendance(date.minusDays(1), "a");
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalOlderThanDataFile_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("JournalledAddressBook.json");
+        Path journalFilePath = JsonStudentAddressBookStorage.getJournalFilePath(filePath);
+        Student student = new StudentBuilder().withStudentNumber("A1234567L").build();
+        AddressBook original = new AddressBook();
+        original.addStudent(student);
+        JsonStudentAddressBookStorage storage = new JsonStudentAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removeStudent(student);
+        storage.saveAddressBook(original);
+        String staleJournal = Files.readString(journalFilePath);
+
+        // The data file is rewritten, but the save stops before the journal is deleted
+        original.addStudent(student);
+        new JsonStudentAddressBookStorage(filePath).saveAddressBook(original);
+        Files.writeString(journalFilePath, staleJournal);
+
+        JsonStudentAddressBookStorage reopenedStorage = new JsonStudentAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = reopenedStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // the next save rewrites the data file and drops the stale journal
+        reopenedStorage.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_dataFileWithoutJournalId_replaysJournal() throws Exception {
+        Path filePath = testFolder.resolve("JournalledAddressBook.json");
+        Path journalFilePath = JsonStudentAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = new AddressBook();
+        original.addStudent(BOB);
+        JsonUtil.saveJsonFile(new JsonSerializableStudentAddressBook(
+                List.of(new JsonAdaptedStudent(BOB)), null), filePath);
+        Files.writeString(journalFilePath, JsonUtil.toCompactJsonString(
+                List.of(JsonAdaptedJournalEntry.put(1, CHARLIE))) + System.lineSeparator());
+        original.addStudent(CHARLIE);
+
+        JsonStudentAddressBookStorage storage = new JsonStudentAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // the next save gives the data file a journal id
+        storage.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedJournalTail_ignoresDamagedSave() throws Exception {
+        Path filePath = testFolder.resolve("JournalledAddressBook.json");
+        Path journalFilePath = JsonStudentAddressBookStorage.getJournalFilePath(filePath);
+        Student student = new StudentBuilder().withStudentNumber("A1234567L").build();
+        AddressBook original = new AddressBook();
+        original.addStudent(student);
+        JsonStudentAddressBookStorage storage = new JsonStudentAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        student.markAttendance(LocalDate.of(2024, 10, 1), "p");
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+
+        Files.writeString(journalFilePath, "[{\"operation\":\"put\"", StandardOpenOption.APPEND);
+        JsonStudentAddressBookStorage reopenedStorage = new JsonStudentAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = reopenedStorage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+
+        // the next save rewrites the data file and drops the damaged journal
+        reopenedStorage.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+        assertTrue(Files.exists(filePath));
+        assertEquals(expected, new JsonStudentAddressBookStorage(filePath).readAddressBook().get());
+    }
+
 }
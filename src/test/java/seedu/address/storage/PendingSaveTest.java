@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PendingSaveTest {
+
+    private final PendingSave aliceBatch = PendingSave.ofJournalBatch(List.of(JsonAdaptedJournalEntry.put(0, ALICE)));
+    private final PendingSave bobBatch = PendingSave.ofJournalBatch(List.of(JsonAdaptedJournalEntry.put(1, BOB)));
+    private final PendingSave snapshot =
+            PendingSave.ofSnapshot(new JsonSerializableStudentAddressBook(getTypicalAddressBook()));
+
+    @Test
+    public void ofJournalBatch_noEntries_isEmpty() {
+        assertTrue(PendingSave.ofJournalBatch(List.of()).isEmpty());
+    }
+
+    @Test
+    public void followedBy_journalBatches_keepsBatchesInOrder() {
+        PendingSave combined = aliceBatch.followedBy(bobBatch);
+        assertNull(combined.getSnapshot());
+        assertEquals(2, combined.getJournalBatches().size());
+        assertEquals(aliceBatch.getJournalBatches().get(0), combined.getJournalBatches().get(0));
+        assertEquals(bobBatch.getJournalBatches().get(0), combined.getJournalBatches().get(1));
+    }
+
+    @Test
+    public void followedBy_snapshot_dropsEarlierSaves() {
+        assertSame(snapshot, aliceBatch.followedBy(snapshot));
+    }
+
+    @Test
+    public void followedBy_batchAfterSnapshot_keepsSnapshot() {
+        PendingSave combined = snapshot.followedBy(aliceBatch);
+        assertSame(snapshot.getSnapshot(), combined.getSnapshot());
+        assertEquals(aliceBatch.getJournalBatches(), combined.getJournalBatches());
+    }
+
+    @Test
+    public void followedBy_empty_returnsOther() {
+        assertSame(aliceBatch, PendingSave.empty().followedBy(aliceBatch));
+        assertTrue(PendingSave.empty().followedBy(PendingSave.empty()).isEmpty());
+    }
+}
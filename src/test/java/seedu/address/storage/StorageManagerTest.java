@@ -4,7 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +19,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
 
 public class StorageManagerTest {
 
@@ -61,6 +68,68 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookInBackground_changesAfterCapture_savesCapturedState() throws Exception {
+        AddressBook original = new AddressBook();
+        Student student = new StudentBuilder().withStudentNumber("A1234567L").build();
+        original.addStudent(student);
+
+        storageManager.saveAddressBookInBackground(original);
+        AddressBook expected = new AddressBook(original);
+        original.removeStudent(student);
+        storageManager.flushAddressBook();
+
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookInBackground_burstOfSaves_writesFinalState() throws Exception {
+        AddressBook original = new AddressBook();
+        Student student = new StudentBuilder().withStudentNumber("A1234567L").build();
+        original.addStudent(student);
+        storageManager.saveAddressBook(original);
+
+        for (int i = 1; i <= 20; i++) {
+            student.markAttendance(LocalDate.of(2024, 10, i), i % 2 == 0 ? "p" : "a");
+            storageManager.saveAddressBookInBackground(original);
+        }
+        storageManager.flushAddressBook();
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void writeFileInBackground_writesAfterEarlierSaves() throws Exception {
+        Path filePath = testFolder.resolve("metrics.txt");
+        storageManager.saveAddressBookInBackground(getTypicalAddressBook());
+        storageManager.writeFileInBackground(filePath, "first");
+        storageManager.writeFileInBackground(filePath, "second");
+        storageManager.flushAddressBook();
+
+        assertEquals("second", Files.readString(filePath));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookInBackground_writeFails_reportsFailure() {
+        IOException failure = new IOException("disk full");
+        JsonStudentAddressBookStorage failingStorage = new JsonStudentAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void writeAddressBook(PendingSave save) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager failingStorageManager =
+                new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+        failingStorageManager.setSaveFailureHandler(reportedFailures::add);
+
+        failingStorageManager.saveAddressBookInBackground(getTypicalAddressBook());
+        failingStorageManager.flushAddressBook();
+
+        assertEquals(List.of(failure), reportedFailures);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentListChangesTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 8);
+
+    private final ObservableList<Student> students = FXCollections.observableArrayList();
+    private List<Student> saved;
+    private StudentListChanges changes;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 5; i++) {
+            students.add(createStudent(i));
+        }
+        saved = new ArrayList<>(students);
+        changes = new StudentListChanges(students);
+    }
+
+    @Test
+    public void take_noChanges_noEntries() {
+        assertEquals(List.of(), changes.take());
+    }
+
+    @Test
+    public void take_studentChangedInPlace_onlyThatStudentUpdated() throws Exception {
+        students.get(3).markAttendance(DATE, "p");
+
+        List<JsonAdaptedJournalEntry> entries = changes.take();
+        assertEquals(1, entries.size());
+        assertAppliedToSavedGivesList(entries);
+        assertEquals(List.of(), changes.take());
+    }
+
+    @Test
+    public void take_addedRemovedAndReplacedStudents_entriesReproduceList() throws Exception {
+        students.remove(1);
+        students.add(0, createStudent(10));
+        students.get(2).markAttendance(DATE, "a");
+        students.set(3, new StudentBuilder(students.get(3)).withPhone("99999999").build());
+        students.add(2, createStudent(11));
+        students.add(createStudent(12));
+        // Added and removed again before the save, so never saved
+        students.remove(students.size() - 1);
+        students.get(0).markAttendance(DATE, "p");
+
+        List<JsonAdaptedJournalEntry> entries = changes.take();
+        assertEquals(6, entries.size());
+        assertAppliedToSavedGivesList(entries);
+    }
+
+    @Test
+    public void take_listReordered_returnsNull() {
+        FXCollections.sort(students, Comparator.comparing(student -> student.getName().fullName,
+                Comparator.reverseOrder()));
+        assertNull(changes.take());
+        assertEquals(List.of(), changes.take());
+    }
+
+    @Test
+    public void dispose_changesNoLongerFollowed() {
+        changes.dispose();
+        students.get(0).markAttendance(DATE, "p");
+        students.remove(1);
+        assertTrue(changes.take().isEmpty());
+    }
+
+    private void assertAppliedToSavedGivesList(List<JsonAdaptedJournalEntry> entries) throws Exception {
+        List<Student> replayed = new ArrayList<>(saved);
+        for (JsonAdaptedJournalEntry entry : entries) {
+            entry.applyTo(replayed);
+        }
+        assertEquals(students, replayed);
+        saved = new ArrayList<>(students);
+    }
+
+    private static Student createStudent(int i) {
+        return new StudentBuilder().withName("Student " + (char) ('A' + i))
+                .withStudentNumber(String.format("A%07dL", i)).build();
+    }
+}
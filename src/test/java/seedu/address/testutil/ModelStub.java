@@ -9,6 +9,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.attendance.AttendanceMatrix;
 import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.TutorialGroup;
@@ -121,4 +122,14 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public AttendanceMatrix getAttendanceMatrix(TutorialGroup tutorialGroup) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void batch(Runnable changes) {
+        throw new AssertionError("This method should not be called.");
+    }
+
 }
@@ -0,0 +1,76 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.TutorialGroup;
+
+/**
+ * A utility class that generates rosters of arbitrary size, for benchmarks and tests that need many students.
+ * The same size always produces the same students.
+ */
+public class SyntheticRoster {
+
+    public static final int TUTORIAL_GROUP_COUNT = 40;
+    public static final int DEFAULT_ASSIGNMENT_COUNT = 3;
+    public static final int DEFAULT_ATTENDANCE_COUNT = 13;
+    public static final LocalDate FIRST_LESSON = LocalDate.of(2024, 1, 8);
+
+    /**
+     * Returns {@code size} distinct students with the default number of assignments and weekly attendance records.
+     */
+    public static List<Student> getStudents(int size) {
+        return getStudents(size, DEFAULT_ASSIGNMENT_COUNT, DEFAULT_ATTENDANCE_COUNT);
+    }
+
+    /**
+     * Returns {@code size} distinct students spread evenly over {@link #TUTORIAL_GROUP_COUNT} tutorial groups,
+     * each with {@code assignmentCount} assignments and {@code attendanceCount} weekly attendance records.
+     */
+    public static List<Student> getStudents(int size, int assignmentCount, int attendanceCount) {
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StudentBuilder builder = new StudentBuilder()
+                    .withName(getName(i))
+                    .withPhone(String.format("9%07d", i))
+                    .withTutorialGroup(getTutorialGroup(i % TUTORIAL_GROUP_COUNT).value)
+                    .withStudentNumber(String.format("A%07dX", i));
+            for (int a = 1; a <= assignmentCount; a++) {
+                String status = (i + a) % 2 == 0 ? "Y" : "N";
+                String grade = (i + a) % 3 == 0 ? "NULL" : String.valueOf((i * a) % 100);
+                builder.withAssignment("Assignment " + a, FIRST_LESSON.plusWeeks(a).toString(), status, grade);
+            }
+            for (int w = 0; w < attendanceCount; w++) {
+                builder.withAttendanceRecord(FIRST_LESSON.plusWeeks(w), (i + w) % 5 == 0 ? "a" : "p");
+            }
+            students.add(builder.build());
+        }
+        return students;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the students from {@link #getStudents(int)}.
+     */
+    public static AddressBook getAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setStudents(getStudents(size));
+        return addressBook;
+    }
+
+    /**
+     * Returns the name of the {@code index}-th generated student.
+     */
+    public static String getName(int index) {
+        return "Student " + index;
+    }
+
+    /**
+     * Returns the {@code index}-th of the generated tutorial groups.
+     */
+    public static TutorialGroup getTutorialGroup(int index) {
+        return new TutorialGroup(String.format("G%02d", index));
+    }
+}
@@ -37,6 +37,49 @@ class AttendanceRowTest {
         assertEquals("", attendanceRow.getAttendanceForDate(date));
     }
 
+    @Test
+    void removeAttendanceRecord_existingRecord_blankAndDetached() {
+        Student student = new StudentBuilder().withName("John Doe").build();
+        AttendanceRow attendanceRow = new AttendanceRow(student);
+        LocalDate date = LocalDate.of(2023, 10, 9);
+        AttendanceRecord record = new AttendanceRecord(date, new Attendance("p"));
+        attendanceRow.addNewAttendanceRecord(record);
+
+        attendanceRow.removeAttendanceRecord(record);
+        assertEquals("", attendanceRow.getAttendanceForDate(date));
+        assertEquals(0, attendanceRow.getListenerCount());
+
+        record.setAttendance(new Attendance("a"));
+        assertEquals("", attendanceRow.getAttendanceForDate(date));
+    }
+
+    @Test
+    void dispose_studentWithRecords_detachesAllListeners() {
+        Student student = new StudentBuilder().withName("John Doe")
+                .withAttendanceRecord(LocalDate.of(2023, 10, 9), "p")
+                .withAttendanceRecord(LocalDate.of(2023, 10, 16), "p").build();
+        AttendanceRow attendanceRow = new AttendanceRow(student);
+        assertEquals(2, attendanceRow.getListenerCount());
+
+        attendanceRow.dispose();
+        assertEquals(0, attendanceRow.getListenerCount());
+
+        student.markAttendance(LocalDate.of(2023, 10, 9), "a");
+        assertEquals("Present", attendanceRow.getAttendanceForDate(LocalDate.of(2023, 10, 9)));
+    }
+
+    @Test
+    void setOnAttendanceChanged_recordChanged_runsAction() {
+        Student student = new StudentBuilder().withName("John Doe")
+                .withAttendanceRecord(LocalDate.of(2023, 10, 9), "p").build();
+        AttendanceRow attendanceRow = new AttendanceRow(student);
+        int[] runCount = {0};
+        attendanceRow.setOnAttendanceChanged(() -> runCount[0]++);
+
+        student.markAttendance(LocalDate.of(2023, 10, 9), "a");
+        assertEquals(1, runCount[0]);
+        assertEquals("Absent", attendanceRow.getAttendanceForDate(LocalDate.of(2023, 10, 9)));
+    }
 
     @Test
     void addNewAttendanceRecord_validRecord_success() {
@@ -3,8 +3,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,30 +18,6 @@ import seedu.address.testutil.StudentBuilder;
 
 public class AttendanceWindowTest {
 
-    @Test
-    void getAllAttendanceDates_validAttendanceRecords_success() {
-        Model model = new ModelManager();
-
-        // Add students with attendance records
-        Student student1 = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
-                .withTutorialGroup("A01").build();
-        student1.markAttendance(LocalDate.of(2024, 10, 1), "p");
-        student1.markAttendance(LocalDate.of(2024, 10, 15), "p");
-
-
-        model.addStudent(student1);
-
-        // Create AttendanceWindow and verify
-        AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
-        Set<LocalDate> expectedDates = new TreeSet<>();
-        expectedDates.add(LocalDate.of(2024, 10, 1));
-        expectedDates.add(LocalDate.of(2024, 10, 15));
-
-        Set<LocalDate> actualDates = window.getAllAttendanceDates(model);
-
-        assertEquals(expectedDates, actualDates);
-    }
-
     @Test
     void getStudentAttendanceRows_validData_success() {
         Model model = new ModelManager();
@@ -72,72 +49,89 @@ public class AttendanceWindowTest {
     }
 
     @Test
-    void getAllAttendanceDates_noAttendanceRecords_returnsEmptySet() {
-        Model model = new ModelManager();
-
-        // Add a student without attendance records
-        Student student1 = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
-                .withTutorialGroup("A01").build();
-        model.addStudent(student1);
-
-        AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
-
-        Set<LocalDate> actualDates = window.getAllAttendanceDates(model);
-        assertTrue(actualDates.isEmpty(), "Expected no attendance dates, but some were returned.");
-    }
-
-    @Test
-    void getAllAttendanceDates_noStudentsInGroup_returnsEmptySet() {
+    void getStudentAttendanceRows_noStudentsInGroup_returnsEmptyList() {
         Model model = new ModelManager();
 
         // No students are added to the model
 
         AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
 
-        Set<LocalDate> actualDates = window.getAllAttendanceDates(model);
-        assertTrue(actualDates.isEmpty(), "Expected no attendance dates since there are no students.");
+        ObservableList<AttendanceRow> rows = window.getStudentAttendanceRows(model);
+        assertTrue(rows.isEmpty(), "Expected no attendance rows since there are no students.");
     }
 
     @Test
-    void getStudentAttendanceRows_noStudentsInGroup_returnsEmptyList() {
+    void attach_afterDispose_dateColumnsRestored() {
         Model model = new ModelManager();
-
-        // No students are added to the model
+        Student student = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
+                .withTutorialGroup("A01").build();
+        student.markAttendance(LocalDate.of(2024, 10, 15), "a");
+        student.markAttendance(LocalDate.of(2024, 10, 1), "p");
+        model.addStudent(student);
 
         AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
-
-        ObservableList<AttendanceRow> rows = window.getStudentAttendanceRows(model);
-        assertTrue(rows.isEmpty(), "Expected no attendance rows since there are no students.");
+        window.attach(model);
+        List<String> expectedHeaders = List.of("Student", "Student Number", "Oct 1 2024", "Oct 15 2024");
+        assertEquals(expectedHeaders, getHeaders(window));
+
+        // Closing and reopening the same window, as undoing and redoing getattg does
+        window.dispose();
+        window.attach(model);
+        assertEquals(expectedHeaders, getHeaders(window));
+        assertEquals(1, window.getRows().size());
+
+        // Dates recorded while the window was closed show up when it is reopened
+        window.dispose();
+        student.markAttendance(LocalDate.of(2024, 10, 8), "p");
+        window.attach(model);
+        assertEquals(List.of("Student", "Student Number", "Oct 1 2024", "Oct 8 2024", "Oct 15 2024"),
+                getHeaders(window));
     }
 
     @Test
-    void getAllAttendanceDates_multipleStudents_success() {
+    void dispose_studentsWithRecords_noListenersLeftOnModel() {
         Model model = new ModelManager();
-
         Student student1 = new StudentBuilder().withName("John Doe").withStudentNumber("A1234567M")
                 .withTutorialGroup("A01").build();
         student1.markAttendance(LocalDate.of(2024, 10, 1), "p");
-
+        student1.markAttendance(LocalDate.of(2024, 10, 15), "a");
         Student student2 = new StudentBuilder().withName("Jane Doe").withStudentNumber("A7654321M")
                 .withTutorialGroup("A01").build();
-        student2.markAttendance(LocalDate.of(2024, 10, 15), "a");
-
+        student2.markAttendance(LocalDate.of(2024, 10, 1), "a");
         model.addStudent(student1);
         model.addStudent(student2);
 
         AttendanceWindow window = new AttendanceWindow(new TutorialGroup("A01"));
-        Set<LocalDate> expectedDates = new TreeSet<>();
-        expectedDates.add(LocalDate.of(2024, 10, 1));
-        expectedDates.add(LocalDate.of(2024, 10, 15));
-
-        Set<LocalDate> actualDates = window.getAllAttendanceDates(model);
-        assertEquals(expectedDates, actualDates, "Expected all attendance dates for both students.");
+        window.attach(model);
+        // The student list, each student's record list and each record
+        assertEquals(1 + 2 + 3, window.getListenerCount());
+
+        window.dispose();
+        assertEquals(0, window.getListenerCount());
+
+        // A listener left behind would update a row or queue a refresh, which fails without a running toolkit
+        List<Throwable> listenerErrors = new ArrayList<>();
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> listenerErrors.add(e));
+        try {
+            model.addStudent(new StudentBuilder().withName("Jim Doe").withStudentNumber("A1111111M")
+                    .withTutorialGroup("A01").build());
+            student1.markAttendance(LocalDate.of(2024, 10, 15), "p");
+            student2.markAttendance(LocalDate.of(2024, 10, 8), "p");
+            model.deleteStudent(student2);
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+
+        assertEquals(List.of(), listenerErrors);
+        assertEquals(2, window.getRows().size());
+        assertEquals(List.of("Student", "Student Number", "Oct 1 2024", "Oct 15 2024"), getHeaders(window));
     }
 
-
-
-
-
+    private static List<String> getHeaders(AttendanceWindow window) {
+        return window.getColumns().stream().map(column -> column.getText()).collect(Collectors.toList());
+    }
 
     @Test
     void toStringMethod() {
@@ -0,0 +1,111 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.ChangeBatch;
+
+public class ListChangesTest {
+
+    private final List<Cell> cells = new ArrayList<>();
+    private ObservableList<String> source;
+    private int createdCount;
+
+    @BeforeEach
+    public void setUp() {
+        mirror(new BatchedObservableList<>());
+    }
+
+    private void mirror(ObservableList<String> list) {
+        source = list;
+        cells.clear();
+        source.addAll("b", "c", "a");
+        source.forEach(item -> cells.add(new Cell(item)));
+        source.addListener((ListChangeListener<String>) change -> ListChanges.apply(change, cells, item -> {
+            createdCount++;
+            return new Cell(item);
+        }, Cell::show));
+    }
+
+    @Test
+    public void apply_addAndRemove_onlyChangedCellsTouched() {
+        Cell first = cells.get(0);
+        source.add(1, "d");
+        source.remove("a");
+        assertCellsMatchSource();
+        assertSame(first, cells.get(0));
+        assertEquals(1, createdCount);
+    }
+
+    @Test
+    public void apply_replace_cellUpdatedInPlace() {
+        Cell second = cells.get(1);
+        source.set(1, "e");
+        assertCellsMatchSource();
+        assertSame(second, cells.get(1));
+        assertEquals(0, createdCount);
+    }
+
+    @Test
+    public void apply_setAll_reusesCellsBeforeCreating() {
+        source.setAll("x", "y", "z", "w");
+        assertCellsMatchSource();
+        assertEquals(1, createdCount);
+
+        source.setAll("v");
+        assertCellsMatchSource();
+        assertEquals(1, createdCount);
+    }
+
+    @Test
+    public void apply_sort_cellsPermuted() {
+        mirror(FXCollections.observableArrayList());
+        List<Cell> before = new ArrayList<>(cells);
+        source.sort(Comparator.naturalOrder());
+        assertCellsMatchSource();
+        assertSame(before.get(2), cells.get(0));
+        assertEquals(0, createdCount);
+    }
+
+    @Test
+    public void apply_batchedChanges_allApplied() {
+        ChangeBatch.run(() -> {
+            source.add("d");
+            source.remove(0);
+            source.set(0, "e");
+            source.add(0, "f");
+        });
+        assertCellsMatchSource();
+    }
+
+    private void assertCellsMatchSource() {
+        assertEquals(source, cells.stream().map(cell -> cell.item).collect(Collectors.toList()));
+    }
+
+    /**
+     * Stands in for a node that shows an item.
+     */
+    private static class Cell {
+        private String item;
+
+        Cell(String item) {
+            this.item = item;
+        }
+
+        void show(String item) {
+            this.item = item;
+        }
+    }
+}
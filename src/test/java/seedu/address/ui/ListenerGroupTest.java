@@ -0,0 +1,55 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.AttendanceRecord;
+
+public class ListenerGroupTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList();
+    private final AttendanceRecord record = new AttendanceRecord(LocalDate.of(2024, 1, 8), new Attendance("p"));
+    private final int[] callCount = {0};
+
+    @Test
+    public void addListener_listChanged_listenerCalled() {
+        ListenerGroup group = new ListenerGroup();
+        group.addListChangeListener(list, change -> callCount[0]++);
+        list.add("a");
+        assertEquals(1, callCount[0]);
+        assertEquals(1, group.size());
+    }
+
+    @Test
+    public void removeAll_listenersDetached() {
+        ListenerGroup group = new ListenerGroup();
+        group.addListChangeListener(list, change -> callCount[0]++);
+        group.addInvalidationListener(record, observable -> callCount[0]++);
+
+        group.removeAll();
+        list.add("a");
+        record.setAttendance(new Attendance("a"));
+        assertEquals(0, callCount[0]);
+        assertEquals(0, group.size());
+    }
+
+    @Test
+    public void handle_run_detachesOnlyThatListener() {
+        ListenerGroup group = new ListenerGroup();
+        Runnable listHandle = group.addListChangeListener(list, change -> callCount[0]++);
+        group.addInvalidationListener(record, observable -> callCount[0]++);
+
+        listHandle.run();
+        listHandle.run();
+        list.add("a");
+        record.setAttendance(new Attendance("a"));
+        assertEquals(1, callCount[0]);
+        assertEquals(1, group.size());
+    }
+}